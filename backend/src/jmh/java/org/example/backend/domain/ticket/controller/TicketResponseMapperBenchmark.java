@@ -0,0 +1,109 @@
+package org.example.backend.domain.ticket.controller;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.backend.domain.department.entity.Department;
+import org.example.backend.domain.ticket.dto.response.TicketDetailResponse;
+import org.example.backend.domain.ticket.dto.response.TicketSummaryResponse;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.entity.TicketComment;
+import org.example.backend.domain.ticket.entity.TicketHistory;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.ticket.repository.TicketSummaryRow;
+import org.example.backend.domain.ticket.service.SlaCalendars;
+import org.example.backend.domain.ticket.service.SlaPolicyFixtures;
+import org.example.backend.domain.ticket.service.SlaService;
+import org.example.backend.domain.ticket.service.TicketDetails;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TicketResponseMapperBenchmark {
+
+    @Param({"5", "50"})
+    public int activityCount;
+
+    private Ticket ticket;
+    private TicketSummaryRow row;
+    private TicketDetails details;
+
+    @Setup
+    public void setUp() {
+        User reporter = user(1L, UserRole.END_USER);
+        User agent = user(2L, UserRole.AGENT);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        ticket = new Ticket(
+                "VPN drops",
+                "VPN disconnects every hour",
+                TicketPriority.HIGH,
+                TicketCategory.NETWORK,
+                reporter
+        );
+        ReflectionTestUtils.setField(ticket, "id", 10L);
+        ReflectionTestUtils.setField(ticket, "createdAt", createdAt);
+        ticket.setTicketNumber("ITSM-2025-0010");
+        ticket.setAssignee(agent);
+        new SlaService(SlaCalendars.alwaysOpen(), SlaPolicyFixtures.standardPolicies()).initializeSla(ticket, createdAt);
+
+        row = new TicketSummaryRow(10L, "ITSM-2025-0010", "VPN drops", TicketStatus.IN_PROGRESS, TicketPriority.HIGH,
+                TicketCategory.NETWORK, 2L, "User2", "user2", createdAt, ticket.getSlaResponseDeadline(),
+                ticket.getSlaResolutionDeadline(), TicketSlaFlag.OK);
+
+        List<TicketComment> comments = new ArrayList<>();
+        List<TicketHistory> history = new ArrayList<>();
+        for (int i = 0; i < activityCount; i++) {
+            User author = i % 2 == 0 ? reporter : agent;
+            TicketComment comment = new TicketComment(ticket, author, "Comment " + i, i % 5 == 0);
+            ReflectionTestUtils.setField(comment, "id", (long) i);
+            comments.add(comment);
+            TicketHistory entry = new TicketHistory(
+                    ticket, TicketStatus.NEW, TicketStatus.IN_PROGRESS, agent, "Note " + i);
+            ReflectionTestUtils.setField(entry, "id", (long) i);
+            history.add(entry);
+        }
+        details = new TicketDetails(ticket, comments, history);
+    }
+
+    @Benchmark
+    public TicketSummaryResponse summaryFromEntity() {
+        return TicketResponseMapper.toSummaryResponse(ticket);
+    }
+
+    @Benchmark
+    public TicketSummaryResponse summaryFromRow() {
+        return TicketResponseMapper.toSummaryResponse(row);
+    }
+
+    @Benchmark
+    public TicketDetailResponse detailForAgent() {
+        return TicketResponseMapper.toDetailResponse(details, UserRole.AGENT);
+    }
+
+    @Benchmark
+    public TicketDetailResponse detailForEndUser() {
+        return TicketResponseMapper.toDetailResponse(details, UserRole.END_USER);
+    }
+
+    private static User user(Long id, UserRole role) {
+        User user = new User("user" + id, "mail" + id + "@example.com", "pwd", "User" + id, role, (Department) null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
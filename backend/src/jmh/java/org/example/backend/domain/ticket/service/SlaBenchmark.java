@@ -0,0 +1,109 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlaBenchmark {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Param({"OK", "NEAR", "BREACHED"})
+    public TicketSlaFlag expectedFlag;
+
+    private final SlaService slaService =
+            new SlaService(SlaCalendars.alwaysOpen(), SlaPolicyFixtures.standardPolicies());
+    private final WorkingCalendar officeCalendar = WorkingCalendar.of(
+            "office",
+            List.of("MON-FRI 08:00-12:00,13:00-17:00"),
+            List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 25))
+    );
+    private final SlaService officeSlaService = new SlaService(
+            new SlaCalendars(new SlaCalendarProperties(
+                    "office",
+                    Map.of("office", new SlaCalendarProperties.Definition(
+                            List.of("MON-FRI 08:00-12:00,13:00-17:00"), List.of("2025-01-01", "2025-12-25"))),
+                    null
+            )),
+            SlaPolicyFixtures.standardPolicies()
+    );
+    private final Duration responseDuration = Duration.ofHours(6);
+    private Ticket ticket;
+    private final Ticket officeTicket =
+            new Ticket("subject", "description", TicketPriority.HIGH, TicketCategory.SOFTWARE, null);
+    private LocalDateTime referenceTime;
+    private long responseNearMillis;
+    private long responseDeadlineMillis;
+    private long resolutionNearMillis;
+    private long resolutionDeadlineMillis;
+    private long referenceMillis;
+
+    @Setup
+    public void setUp() {
+        ticket = new Ticket("subject", "description", TicketPriority.HIGH, TicketCategory.SOFTWARE, null);
+        slaService.initializeSla(ticket, CREATED_AT);
+        referenceTime = switch (expectedFlag) {
+            case OK -> CREATED_AT.plusHours(1);
+            case NEAR -> CREATED_AT.plusHours(5);
+            case BREACHED -> CREATED_AT.plusHours(7);
+        };
+        responseNearMillis = SlaTimeCalculator.toEpochMillis(ticket.getSlaResponseNearAt());
+        responseDeadlineMillis = SlaTimeCalculator.toEpochMillis(ticket.getSlaResponseDeadline());
+        resolutionNearMillis = SlaTimeCalculator.toEpochMillis(ticket.getSlaResolutionNearAt());
+        resolutionDeadlineMillis = SlaTimeCalculator.toEpochMillis(ticket.getSlaResolutionDeadline());
+        referenceMillis = SlaTimeCalculator.toEpochMillis(referenceTime);
+    }
+
+    @Benchmark
+    public TicketSlaFlag evaluateFlag() {
+        return slaService.evaluateFlag(ticket, referenceTime);
+    }
+
+    // Expect gc.alloc.rate.norm ~0 B/op under -prof gc
+    @Benchmark
+    public TicketSlaFlag evaluateFlagPrimitive() {
+        return slaService.evaluateFlag(
+                responseNearMillis, responseDeadlineMillis, resolutionNearMillis, resolutionDeadlineMillis, referenceMillis);
+    }
+
+    // Four working-time additions on the office calendar, as on ticket creation
+    @Benchmark
+    public LocalDateTime applyDeadlines() {
+        officeSlaService.applyDeadlines(officeTicket, referenceTime);
+        return officeTicket.getSlaResolutionDeadline();
+    }
+
+    // Binary searches over the precomputed working-time index
+    @Benchmark
+    public LocalDateTime addWorkingTime() {
+        return officeCalendar.addWorkingTime(referenceTime, responseDuration);
+    }
+
+    @Benchmark
+    public Duration workingTimeBetween() {
+        return officeCalendar.workingTimeBetween(CREATED_AT, referenceTime);
+    }
+
+    @Benchmark
+    public LocalDateTime nextFlagChangeAt() {
+        return slaService.nextFlagChangeAt(ticket, referenceTime);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SlaSnapshotBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Param({"100000", "1000000"})
+    public int tickets;
+
+    @Param({"65536"})
+    public int chunkSize;
+
+    private SlaSnapshot snapshot;
+    private LocalDateTime referenceTime;
+
+    @Setup
+    public void setUp() {
+        SlaService slaService = new SlaService(SlaCalendars.alwaysOpen(), SlaPolicyFixtures.standardPolicies());
+        snapshot = new SlaSnapshot(slaService, chunkSize);
+        TicketPriority[] priorities = TicketPriority.values();
+        for (int i = 0; i < tickets; i++) {
+            Ticket ticket = new Ticket("subject", "description", priorities[i % priorities.length],
+                    TicketCategory.SOFTWARE, null);
+            ReflectionTestUtils.setField(ticket, "id", (long) i + 1);
+            slaService.initializeSla(ticket, START.plusSeconds(i % 86_400));
+            snapshot.upsert(ticket);
+        }
+        referenceTime = START.plusHours(12);
+    }
+
+    @Benchmark
+    public SlaSnapshot.SweepResult sweep() {
+        return snapshot.sweep(referenceTime);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Year;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.example.backend.domain.ticket.entity.TicketNumberSequence;
+import org.example.backend.domain.ticket.repository.TicketNumberSequenceRepository;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Claims ticket numbers from many threads at once. The repositories are mocks, so the
+ * numbers isolate the in-memory block hand-off; each refill stands in for one database round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class TicketNumberGeneratorBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int blockSize;
+
+    private TicketNumberGenerator generator;
+
+    @Setup
+    public void setUp() {
+        TicketNumberSequenceRepository sequenceRepository = mock(TicketNumberSequenceRepository.class);
+        TicketNumberSequence sequence = new TicketNumberSequence(Year.now().getValue(), 1);
+        given(sequenceRepository.findForUpdate(anyInt())).willReturn(Optional.of(sequence));
+        generator = new TicketNumberGenerator(
+                sequenceRepository,
+                mock(TicketRepository.class),
+                mock(PlatformTransactionManager.class),
+                blockSize
+        );
+    }
+
+    @Benchmark
+    public String nextTicketNumber() {
+        return generator.nextTicketNumber();
+    }
+}
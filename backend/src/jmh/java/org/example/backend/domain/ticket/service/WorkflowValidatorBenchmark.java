@@ -0,0 +1,82 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.concurrent.TimeUnit;
+import org.example.backend.domain.auth.service.AuthUserDetails;
+import org.example.backend.domain.department.entity.Department;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorkflowValidatorBenchmark {
+
+    private final WorkflowValidator validator = new WorkflowValidator();
+    private Ticket newTicket;
+    private Ticket inProgressTicket;
+    private Ticket resolvedTicket;
+    private AuthUserDetails agent;
+    private AuthUserDetails reporter;
+
+    @Setup
+    public void setUp() {
+        User reporterUser = user(1L, UserRole.END_USER);
+        User agentUser = user(2L, UserRole.AGENT);
+        reporter = AuthUserDetails.from(reporterUser);
+        agent = AuthUserDetails.from(agentUser);
+
+        newTicket = ticket(reporterUser, agentUser, TicketStatus.NEW);
+        inProgressTicket = ticket(reporterUser, agentUser, TicketStatus.IN_PROGRESS);
+        resolvedTicket = ticket(reporterUser, agentUser, TicketStatus.RESOLVED);
+    }
+
+    @Benchmark
+    public void startProgress() {
+        validator.validateTransition(newTicket, TicketStatus.IN_PROGRESS, agent, null);
+    }
+
+    @Benchmark
+    public void resolveWithNote() {
+        validator.validateTransition(inProgressTicket, TicketStatus.RESOLVED, agent, "Replaced the cable");
+    }
+
+    @Benchmark
+    public void reopenByReporter() {
+        validator.validateTransition(resolvedTicket, TicketStatus.REOPENED, reporter, null);
+    }
+
+    @Benchmark
+    public Object rejectInvalidTransition() {
+        try {
+            validator.validateTransition(newTicket, TicketStatus.CLOSED, agent, null);
+            return null;
+        } catch (IllegalStateException ex) {
+            return ex;
+        }
+    }
+
+    private static Ticket ticket(User reporter, User assignee, TicketStatus status) {
+        Ticket ticket = new Ticket("subject", "description", TicketPriority.MEDIUM, TicketCategory.SOFTWARE, reporter);
+        ticket.setAssignee(assignee);
+        ticket.setStatus(status);
+        return ticket;
+    }
+
+    private static User user(Long id, UserRole role) {
+        User user = new User("user" + id, "mail" + id + "@example.com", "pwd", "User" + id, role, (Department) null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.backend.domain.common.api;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor, hasNext, totalElements);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.backend.domain.common.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for seek pagination: the sort key values of the last row handed
+ * to the client, encoded so callers cannot depend on its shape.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (Object key : keys) {
+            if (!raw.isEmpty()) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedKeys) {
+        String[] keys;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            keys = raw.split("\\|", -1);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (keys.length != expectedKeys) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.backend.domain.common.api;
+
+public record KeysetRequest(
+        String cursor,
+        int size,
+        boolean includeTotal
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    public KeysetRequest {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        }
+        if (cursor != null && cursor.isBlank()) {
+            cursor = null;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package org.example.backend.domain.ticket.controller;
 
-import java.time.LocalDateTime;
-import org.example.backend.domain.ticket.service.TicketService;
+import org.example.backend.domain.ticket.service.SlaReinitJob;
+import org.example.backend.domain.ticket.service.SlaReinitStatus;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,18 +15,21 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/admin/tickets")
 public class AdminTicketController {
 
-    private final TicketService ticketService;
+    private final SlaReinitJob slaReinitJob;
 
-    public AdminTicketController(TicketService ticketService) {
-        this.ticketService = ticketService;
+    public AdminTicketController(SlaReinitJob slaReinitJob) {
+        this.slaReinitJob = slaReinitJob;
     }
 
     @PostMapping("/reinit-sla")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ReinitResponse> reinitializeAllSla() {
-        int count = ticketService.reinitializeAllSla();
-        return ResponseEntity.ok(new ReinitResponse(count, LocalDateTime.now()));
+    public ResponseEntity<SlaReinitStatus> reinitializeAllSla() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(slaReinitJob.start());
     }
 
-    public record ReinitResponse(int processed, LocalDateTime executedAt) {}
+    @GetMapping("/reinit-sla/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public SlaReinitStatus getReinitStatus(@PathVariable String jobId) {
+        return slaReinitJob.status(jobId);
+    }
 }
@@ -0,0 +1,60 @@
+package org.example.backend.domain.ticket.controller;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.List;
+import org.example.backend.domain.ticket.dto.request.CreateSlaPolicyRequest;
+import org.example.backend.domain.ticket.dto.request.UpdateSlaPolicyRequest;
+import org.example.backend.domain.ticket.dto.response.SlaPolicyResponse;
+import org.example.backend.domain.ticket.service.SlaPolicyService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/sla-policies")
+@Validated
+public class SlaPolicyController {
+
+    private final SlaPolicyService slaPolicyService;
+
+    public SlaPolicyController(SlaPolicyService slaPolicyService) {
+        this.slaPolicyService = slaPolicyService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<SlaPolicyResponse> list() {
+        return slaPolicyService.listPolicies();
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SlaPolicyResponse> create(@Valid @RequestBody CreateSlaPolicyRequest request) {
+        SlaPolicyResponse policy = slaPolicyService.createPolicy(request);
+        return ResponseEntity
+                .created(URI.create("/api/admin/sla-policies/" + policy.id()))
+                .body(policy);
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public SlaPolicyResponse update(@PathVariable Long id, @Valid @RequestBody UpdateSlaPolicyRequest request) {
+        return slaPolicyService.updatePolicy(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        slaPolicyService.deletePolicy(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,34 +2,43 @@
 package org.example.backend.domain.ticket.controller;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.example.backend.domain.auth.controller.AuthControllerUtils;
 import org.example.backend.domain.auth.service.AuthUserDetails;
+import org.example.backend.domain.common.api.CursorPage;
+import org.example.backend.domain.common.api.KeysetRequest;
 import org.example.backend.domain.ticket.dto.request.ChangeStatusRequest;
 import org.example.backend.domain.ticket.dto.request.CreateCommentRequest;
 import org.example.backend.domain.ticket.dto.request.CreateTicketRequest;
 import org.example.backend.domain.ticket.dto.request.UpdateTicketRequest;
+import org.example.backend.domain.ticket.dto.response.TicketChangesResponse;
 import org.example.backend.domain.ticket.dto.response.TicketDetailResponse;
 import org.example.backend.domain.ticket.dto.response.TicketSummaryResponse;
 import org.example.backend.domain.ticket.entity.Ticket;
 import org.example.backend.domain.ticket.entity.TicketComment;
-import org.example.backend.domain.ticket.entity.TicketHistory;
 import org.example.backend.domain.ticket.enums.TicketCategory;
 import org.example.backend.domain.ticket.enums.TicketPriority;
 import org.example.backend.domain.ticket.enums.TicketStatus;
 import org.example.backend.domain.ticket.service.CommentService;
 import org.example.backend.domain.ticket.service.CreateTicketCommand;
+import org.example.backend.domain.ticket.service.TicketEventBus;
 import org.example.backend.domain.ticket.service.TicketFilterCriteria;
+import org.example.backend.domain.ticket.service.TicketSearchService;
 import org.example.backend.domain.ticket.service.TicketService;
 import org.example.backend.domain.ticket.service.TicketStatusChangeCommand;
 import org.example.backend.domain.ticket.service.UpdateTicketCommand;
 import org.example.backend.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -43,18 +52,36 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/tickets")
 @Validated
 public class TicketController {
 
+    // Clients may keep a copy but must revalidate it; responses differ per user
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final TicketService ticketService;
     private final CommentService commentService;
+    private final TicketEventBus ticketEventBus;
+    private final TicketSearchService ticketSearchService;
+    private final long eventStreamTimeoutMs;
 
-    public TicketController(TicketService ticketService, CommentService commentService) {
+    public TicketController(
+            TicketService ticketService,
+            CommentService commentService,
+            TicketEventBus ticketEventBus,
+            TicketSearchService ticketSearchService,
+            @Value("${app.ticket.events.timeout-ms:1800000}") long eventStreamTimeoutMs
+    ) {
         this.ticketService = ticketService;
         this.commentService = commentService;
+        this.ticketEventBus = ticketEventBus;
+        this.ticketSearchService = ticketSearchService;
+        this.eventStreamTimeoutMs = eventStreamTimeoutMs;
     }
 
     @PostMapping
@@ -78,7 +105,7 @@ public class TicketController {
                 actor
         );
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(toSummaryResponse(ticket));
+        return ResponseEntity.status(HttpStatus.CREATED).body(TicketResponseMapper.toSummaryResponse(ticket));
     }
 
     @GetMapping
@@ -92,7 +119,63 @@ public class TicketController {
     ) {
         AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
         return ticketService.findTickets(new TicketFilterCriteria(status, priority, assigneeId), actor, pageable)
-                .map(this::toSummaryResponse);
+                .map(TicketResponseMapper::toSummaryResponse);
+    }
+
+    @GetMapping("/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPage<TicketSummaryResponse> scrollTickets(
+            Authentication authentication,
+            @RequestParam(value = "status", required = false) TicketStatus status,
+            @RequestParam(value = "priority", required = false) TicketPriority priority,
+            @RequestParam(value = "assigneeId", required = false) Long assigneeId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "direction", defaultValue = "DESC") Sort.Direction direction,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
+        return ticketService.findTickets(
+                new TicketFilterCriteria(status, priority, assigneeId),
+                actor,
+                new KeysetRequest(cursor, size, includeTotal),
+                direction
+        ).map(TicketResponseMapper::toSummaryResponse);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public List<TicketSummaryResponse> searchTickets(
+            Authentication authentication,
+            @RequestParam("q") String query,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
+        return ticketSearchService.search(query, actor, size).stream()
+                .map(TicketResponseMapper::toSummaryResponse)
+                .toList();
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter streamEvents(Authentication authentication) {
+        AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
+        SseEmitter emitter = new SseEmitter(eventStreamTimeoutMs);
+        TicketEventBus.Subscription subscription = ticketEventBus.subscribe(actor, event -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(event.type().name())
+                        .data(TicketResponseMapper.toEventResponse(event), MediaType.APPLICATION_JSON));
+            } catch (IOException | RuntimeException ex) {
+                // Releases the async request on the servlet side; the bus drops the subscription
+                emitter.completeWithError(ex);
+                throw ex;
+            }
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(ex -> subscription.close());
+        return emitter;
     }
 
     @GetMapping("/categories")
@@ -105,11 +188,20 @@ public class TicketController {
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public TicketDetailResponse getTicket(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<TicketDetailResponse> getTicket(
+            @PathVariable Long id,
+            Authentication authentication,
+            ServletWebRequest webRequest
+    ) {
         AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
-        Ticket ticket = ticketService.getTicket(id, actor);
-        List<TicketComment> comments = commentService.findComments(id);
-        return toDetailResponse(ticket, comments, actor.getRole());
+        String etag = ticketService.getTicketVersionTag(id, actor);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(TicketResponseMapper.toDetailResponse(ticketService.getTicketDetails(id, actor), actor.getRole()));
     }
 
     @PatchMapping("/{id}")
@@ -120,7 +212,7 @@ public class TicketController {
             @Valid @RequestBody UpdateTicketRequest request
     ) {
         AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
-        Ticket ticket = ticketService.updateTicket(
+        ticketService.updateTicket(
                 id,
                 new UpdateTicketCommand(
                         request.assigneeId(),
@@ -129,8 +221,7 @@ public class TicketController {
                 ),
                 actor
         );
-        List<TicketComment> comments = commentService.findComments(id);
-        return toDetailResponse(ticket, comments, actor.getRole());
+        return TicketResponseMapper.toDetailResponse(ticketService.getTicketDetails(id, actor), actor.getRole());
     }
 
     @DeleteMapping("/{id}")
@@ -151,120 +242,93 @@ public class TicketController {
         AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
         boolean internal = Boolean.TRUE.equals(request.isInternal());
         TicketComment comment = commentService.addComment(id, actor, request.content(), internal);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toCommentResponse(comment));
+        return ResponseEntity.status(HttpStatus.CREATED).body(TicketResponseMapper.toCommentResponse(comment));
     }
 
     @GetMapping("/{id}/comments")
     @PreAuthorize("isAuthenticated()")
-    public List<TicketDetailResponse.CommentResponse> listComments(
+    public ResponseEntity<List<TicketDetailResponse.CommentResponse>> listComments(
             @PathVariable Long id,
-            Authentication authentication
+            Authentication authentication,
+            ServletWebRequest webRequest,
+            @RequestParam(value = "size", defaultValue = "" + KeysetRequest.MAX_SIZE) int size
     ) {
         AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
-        ticketService.getTicket(id, actor); // ensure access
-        return commentService.findComments(id).stream()
-                .filter(comment -> !comment.isInternal() || actor.getRole() != UserRole.END_USER)
-                .map(this::toCommentResponse)
-                .collect(Collectors.toList());
+        String etag = ticketService.getTicketVersionTag(id, actor); // also ensures access
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        // Same windowed query as the scroll endpoint, oldest first as this list always was;
+        // older comments are reached through /comments/scroll
+        CursorPage<TicketComment> latest = ticketService.findComments(id, actor, new KeysetRequest(null, size, true));
+        List<TicketDetailResponse.CommentResponse> comments = latest.content().reversed().stream()
+                .map(TicketResponseMapper::toCommentResponse)
+                .toList();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .header(TOTAL_COUNT_HEADER, String.valueOf(latest.totalElements()))
+                .body(comments);
     }
 
-    @PostMapping("/{id}/status")
+    @GetMapping("/{id}/comments/scroll")
     @PreAuthorize("isAuthenticated()")
-    public TicketDetailResponse changeStatus(
+    public CursorPage<TicketDetailResponse.CommentResponse> scrollComments(
             @PathVariable Long id,
             Authentication authentication,
-            @Valid @RequestBody ChangeStatusRequest request
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
     ) {
         AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
-        Ticket ticket = ticketService.changeStatus(id, new TicketStatusChangeCommand(
-                request.toStatus(),
-                request.note()
-        ), actor);
-        List<TicketComment> comments = commentService.findComments(id);
-        return toDetailResponse(ticket, comments, actor.getRole());
+        return ticketService.findComments(id, actor, new KeysetRequest(cursor, size, includeTotal))
+                .map(TicketResponseMapper::toCommentResponse);
     }
 
-    private TicketSummaryResponse toSummaryResponse(Ticket ticket) {
-        return new TicketSummaryResponse(
-                ticket.getId(),
-                ticket.getTicketNumber(),
-                ticket.getSubject(),
-                ticket.getStatus().name(),
-                ticket.getPriority().name(),
-                ticket.getCategory().name(),
-                ticket.getAssignee() != null ? ticket.getAssignee().getId() : null,
-                ticket.getAssignee() != null ? ticket.getAssignee().getFullName() : null,
-                ticket.getAssignee() != null ? ticket.getAssignee().getUsername() : null,
-                                ticket.getCreatedAt(),
-                                ticket.getSlaResponseDeadline(),
-                                ticket.getSlaResolutionDeadline(),
-                                ticket.getSlaFlag() != null ? ticket.getSlaFlag().name() : null
-        );
+    @GetMapping("/{id}/history/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPage<TicketDetailResponse.HistoryResponse> scrollHistory(
+            @PathVariable Long id,
+            Authentication authentication,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
+        return ticketService.findHistory(id, actor, new KeysetRequest(cursor, size, includeTotal))
+                .map(TicketResponseMapper::toHistoryResponse);
     }
 
-    private TicketDetailResponse toDetailResponse(Ticket ticket, List<TicketComment> comments, UserRole role) {
-        List<TicketDetailResponse.CommentResponse> commentResponses = comments.stream()
-                .filter(comment -> !comment.isInternal() || role != UserRole.END_USER)
-                .map(this::toCommentResponse)
-                .collect(Collectors.toList());
-
-        List<TicketDetailResponse.HistoryResponse> historyResponses = ticket.getHistory().stream()
-                .map(this::toHistoryResponse)
-                .collect(Collectors.toList());
-
-        return new TicketDetailResponse(
-                ticket.getId(),
-                ticket.getTicketNumber(),
-                ticket.getSubject(),
-                ticket.getDescription(),
-                ticket.getStatus().name(),
-                ticket.getPriority().name(),
-                ticket.getCategory().name(),
-                ticket.getCategory().getLabel(),
-                ticket.getReporter().getId(),
-                ticket.getReporter().getFullName(),
-                ticket.getReporter().getUsername(),
-                ticket.getAssignee() != null ? ticket.getAssignee().getId() : null,
-                ticket.getAssignee() != null ? ticket.getAssignee().getFullName() : null,
-                ticket.getAssignee() != null ? ticket.getAssignee().getUsername() : null,
-                ticket.getSlaResponseDeadline(),
-                ticket.getSlaResolutionDeadline(),
-                ticket.getSlaFlag() != null ? ticket.getSlaFlag().name() : null,
-                ticket.getCreatedAt(),
-                ticket.getUpdatedAt(),
-                ticket.getResolvedAt(),
-                ticket.getClosedAt(),
-                commentResponses,
-                historyResponses
-        );
+    @GetMapping("/{id}/changes")
+    @PreAuthorize("isAuthenticated()")
+    public TicketChangesResponse getChanges(
+            @PathVariable Long id,
+            Authentication authentication,
+            @RequestParam(value = "since", required = false) String since
+    ) {
+        AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
+        return TicketResponseMapper.toChangesResponse(ticketService.getChangesSince(id, since, actor), actor.getRole());
     }
 
-    private TicketDetailResponse.CommentResponse toCommentResponse(TicketComment comment) {
-        String authorLabel = null;
-        if (comment.getAuthor() != null) {
-            String fullName = comment.getAuthor().getFullName();
-            String username = comment.getAuthor().getUsername();
-            authorLabel = (fullName != null && !fullName.isBlank()) ? fullName : username;
-        }
-
-        return new TicketDetailResponse.CommentResponse(
-                comment.getId(),
-                authorLabel,
-                comment.isInternal(),
-                comment.getContent(),
-                comment.getCreatedAt()
-        );
+    @PostMapping("/{id}/status")
+    @PreAuthorize("isAuthenticated()")
+    public TicketDetailResponse changeStatus(
+            @PathVariable Long id,
+            Authentication authentication,
+            @Valid @RequestBody ChangeStatusRequest request
+    ) {
+        AuthUserDetails actor = AuthControllerUtils.requirePrincipal(authentication);
+        ticketService.changeStatus(id, new TicketStatusChangeCommand(
+                request.toStatus(),
+                request.note()
+        ), actor);
+        return TicketResponseMapper.toDetailResponse(ticketService.getTicketDetails(id, actor), actor.getRole());
     }
 
-    private TicketDetailResponse.HistoryResponse toHistoryResponse(TicketHistory history) {
-        return new TicketDetailResponse.HistoryResponse(
-                history.getId(),
-                history.getFromStatus(),
-                history.getToStatus(),
-                history.getChangedBy().getUsername(),
-                history.getNote(),
-                history.getCreatedAt()
-        );
+    private static boolean notModified(ServletWebRequest webRequest, String etag) {
+        // Also on the 304, so the cached copy keeps being revalidated rather than dropped
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        return webRequest.checkNotModified(etag);
     }
 
     public record TicketCategoryResponse(String code, String label) {
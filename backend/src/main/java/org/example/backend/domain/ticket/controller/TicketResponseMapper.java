@@ -0,0 +1,156 @@
+package org.example.backend.domain.ticket.controller;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.example.backend.domain.ticket.dto.response.TicketChangesResponse;
+import org.example.backend.domain.ticket.dto.response.TicketDetailResponse;
+import org.example.backend.domain.ticket.dto.response.TicketEventResponse;
+import org.example.backend.domain.ticket.dto.response.TicketSummaryResponse;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.entity.TicketComment;
+import org.example.backend.domain.ticket.entity.TicketHistory;
+import org.example.backend.domain.ticket.repository.TicketSummaryRow;
+import org.example.backend.domain.ticket.service.TicketChanges;
+import org.example.backend.domain.ticket.service.TicketDetails;
+import org.example.backend.domain.ticket.service.TicketEvent;
+import org.example.backend.domain.user.enums.UserRole;
+
+final class TicketResponseMapper {
+
+    private TicketResponseMapper() {
+    }
+
+    static TicketSummaryResponse toSummaryResponse(Ticket ticket) {
+        return new TicketSummaryResponse(
+                ticket.getId(),
+                ticket.getTicketNumber(),
+                ticket.getSubject(),
+                ticket.getStatus().name(),
+                ticket.getPriority().name(),
+                ticket.getCategory().name(),
+                ticket.getAssignee() != null ? ticket.getAssignee().getId() : null,
+                ticket.getAssignee() != null ? ticket.getAssignee().getFullName() : null,
+                ticket.getAssignee() != null ? ticket.getAssignee().getUsername() : null,
+                ticket.getCreatedAt(),
+                ticket.getSlaResponseDeadline(),
+                ticket.getSlaResolutionDeadline(),
+                ticket.getSlaFlag() != null ? ticket.getSlaFlag().name() : null
+        );
+    }
+
+    static TicketSummaryResponse toSummaryResponse(TicketSummaryRow row) {
+        return new TicketSummaryResponse(
+                row.id(),
+                row.ticketNumber(),
+                row.subject(),
+                row.status().name(),
+                row.priority().name(),
+                row.category().name(),
+                row.assigneeId(),
+                row.assigneeFullName(),
+                row.assigneeUsername(),
+                row.createdAt(),
+                row.slaResponseDeadline(),
+                row.slaResolutionDeadline(),
+                row.slaFlag() != null ? row.slaFlag().name() : null
+        );
+    }
+
+    static TicketDetailResponse toDetailResponse(TicketDetails details, UserRole role) {
+        Ticket ticket = details.ticket();
+        List<TicketDetailResponse.CommentResponse> commentResponses = details.comments().stream()
+                .filter(comment -> !comment.isInternal() || role != UserRole.END_USER)
+                .map(TicketResponseMapper::toCommentResponse)
+                .collect(Collectors.toList());
+
+        List<TicketDetailResponse.HistoryResponse> historyResponses = details.history().stream()
+                .map(TicketResponseMapper::toHistoryResponse)
+                .collect(Collectors.toList());
+
+        return new TicketDetailResponse(
+                ticket.getId(),
+                ticket.getTicketNumber(),
+                ticket.getSubject(),
+                ticket.getDescription(),
+                ticket.getStatus().name(),
+                ticket.getPriority().name(),
+                ticket.getCategory().name(),
+                ticket.getCategory().getLabel(),
+                ticket.getReporter().getId(),
+                ticket.getReporter().getFullName(),
+                ticket.getReporter().getUsername(),
+                ticket.getAssignee() != null ? ticket.getAssignee().getId() : null,
+                ticket.getAssignee() != null ? ticket.getAssignee().getFullName() : null,
+                ticket.getAssignee() != null ? ticket.getAssignee().getUsername() : null,
+                ticket.getSlaResponseDeadline(),
+                ticket.getSlaResolutionDeadline(),
+                ticket.getSlaFlag() != null ? ticket.getSlaFlag().name() : null,
+                ticket.getSlaPausedAt(),
+                ticket.getSlaPausedMillis(),
+                ticket.getCreatedAt(),
+                ticket.getUpdatedAt(),
+                ticket.getResolvedAt(),
+                ticket.getClosedAt(),
+                commentResponses,
+                historyResponses,
+                details.olderCommentsCursor(),
+                details.olderHistoryCursor()
+        );
+    }
+
+    static TicketChangesResponse toChangesResponse(TicketChanges changes, UserRole role) {
+        TicketDetailResponse ticket = changes.ticket() != null
+                ? toDetailResponse(new TicketDetails(changes.ticket(), List.of(), List.of()), role)
+                : null;
+        List<TicketDetailResponse.CommentResponse> comments = changes.comments().stream()
+                .filter(comment -> !comment.isInternal() || role != UserRole.END_USER)
+                .map(TicketResponseMapper::toCommentResponse)
+                .collect(Collectors.toList());
+        List<TicketDetailResponse.HistoryResponse> history = changes.history().stream()
+                .map(TicketResponseMapper::toHistoryResponse)
+                .collect(Collectors.toList());
+        return new TicketChangesResponse(ticket, comments, history, changes.cursor());
+    }
+
+    static TicketDetailResponse.CommentResponse toCommentResponse(TicketComment comment) {
+        String authorLabel = null;
+        if (comment.getAuthor() != null) {
+            String fullName = comment.getAuthor().getFullName();
+            String username = comment.getAuthor().getUsername();
+            authorLabel = (fullName != null && !fullName.isBlank()) ? fullName : username;
+        }
+
+        return new TicketDetailResponse.CommentResponse(
+                comment.getId(),
+                authorLabel,
+                comment.isInternal(),
+                comment.getContent(),
+                comment.getCreatedAt()
+        );
+    }
+
+    static TicketDetailResponse.HistoryResponse toHistoryResponse(TicketHistory history) {
+        return new TicketDetailResponse.HistoryResponse(
+                history.getId(),
+                history.getFromStatus(),
+                history.getToStatus(),
+                history.getChangedBy().getUsername(),
+                history.getNote(),
+                history.getCreatedAt()
+        );
+    }
+
+    static TicketEventResponse toEventResponse(TicketEvent event) {
+        return new TicketEventResponse(
+                event.type().name(),
+                event.ticketId(),
+                event.ticketNumber(),
+                event.status() != null ? event.status().name() : null,
+                event.priority() != null ? event.priority().name() : null,
+                event.slaFlag() != null ? event.slaFlag().name() : null,
+                event.assigneeId(),
+                event.commentId(),
+                event.occurredAt()
+        );
+    }
+}
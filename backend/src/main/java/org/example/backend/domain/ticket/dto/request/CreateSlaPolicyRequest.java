@@ -0,0 +1,22 @@
+package org.example.backend.domain.ticket.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+
+public record CreateSlaPolicyRequest(
+        @NotNull(message = "Priority is required")
+        TicketPriority priority,
+
+        TicketCategory category,
+
+        Long departmentId,
+
+        @Positive(message = "Response minutes must be positive")
+        Integer responseMinutes,
+
+        @Positive(message = "Resolution minutes must be positive")
+        Integer resolutionMinutes
+) {
+}
@@ -0,0 +1,15 @@
+package org.example.backend.domain.ticket.dto.request;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Replaces both targets; a missing value removes that target from the policy.
+ */
+public record UpdateSlaPolicyRequest(
+        @Positive(message = "Response minutes must be positive")
+        Integer responseMinutes,
+
+        @Positive(message = "Resolution minutes must be positive")
+        Integer resolutionMinutes
+) {
+}
@@ -0,0 +1,15 @@
+package org.example.backend.domain.ticket.dto.response;
+
+import java.time.LocalDateTime;
+import org.example.backend.domain.department.dto.DepartmentLiteDto;
+
+public record SlaPolicyResponse(
+        Long id,
+        String priority,
+        String category,
+        DepartmentLiteDto department,
+        Integer responseMinutes,
+        Integer resolutionMinutes,
+        LocalDateTime updatedAt
+) {
+}
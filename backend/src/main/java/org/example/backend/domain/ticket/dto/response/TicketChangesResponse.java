@@ -0,0 +1,15 @@
+package org.example.backend.domain.ticket.dto.response;
+
+import java.util.List;
+
+/**
+ * Delta for {@code GET /api/tickets/{id}/changes}. {@code ticket} is null when the ticket's own
+ * fields did not change, and otherwise carries no comments or history; those are in the lists here.
+ */
+public record TicketChangesResponse(
+        TicketDetailResponse ticket,
+        List<TicketDetailResponse.CommentResponse> comments,
+        List<TicketDetailResponse.HistoryResponse> history,
+        String cursor
+) {
+}
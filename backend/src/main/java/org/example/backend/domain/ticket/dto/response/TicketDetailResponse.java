@@ -21,12 +21,16 @@ public record TicketDetailResponse(
         java.time.LocalDateTime slaResponseDeadline,
         java.time.LocalDateTime slaResolutionDeadline,
         String slaFlag,
+        LocalDateTime slaPausedAt,
+        long slaPausedMillis,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
         LocalDateTime resolvedAt,
         LocalDateTime closedAt,
         List<CommentResponse> comments,
-        List<HistoryResponse> history
+        List<HistoryResponse> history,
+        String olderCommentsCursor,
+        String olderHistoryCursor
 ) {
 
     public record CommentResponse(
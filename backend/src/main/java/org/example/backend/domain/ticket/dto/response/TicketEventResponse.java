@@ -0,0 +1,16 @@
+package org.example.backend.domain.ticket.dto.response;
+
+import java.time.LocalDateTime;
+
+public record TicketEventResponse(
+        String type,
+        Long ticketId,
+        String ticketNumber,
+        String status,
+        String priority,
+        String slaFlag,
+        Long assigneeId,
+        Long commentId,
+        LocalDateTime occurredAt
+) {
+}
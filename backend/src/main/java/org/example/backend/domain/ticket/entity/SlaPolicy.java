@@ -0,0 +1,125 @@
+package org.example.backend.domain.ticket.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import org.example.backend.domain.department.entity.Department;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+
+@Entity
+@Table(name = "sla_policies")
+public class SlaPolicy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TicketPriority priority;
+
+    // null matches every category
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private TicketCategory category;
+
+    // null matches every department
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "department_id")
+    private Department department;
+
+    // null means the policy sets no target of that kind
+    @Column(name = "response_minutes")
+    private Integer responseMinutes;
+
+    @Column(name = "resolution_minutes")
+    private Integer resolutionMinutes;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected SlaPolicy() {
+        // JPA only
+    }
+
+    public SlaPolicy(
+            TicketPriority priority,
+            TicketCategory category,
+            Department department,
+            Integer responseMinutes,
+            Integer resolutionMinutes
+    ) {
+        this.priority = priority;
+        this.category = category;
+        this.department = department;
+        this.responseMinutes = responseMinutes;
+        this.resolutionMinutes = resolutionMinutes;
+    }
+
+    @PrePersist
+    void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public TicketCategory getCategory() {
+        return category;
+    }
+
+    public Department getDepartment() {
+        return department;
+    }
+
+    public Integer getResponseMinutes() {
+        return responseMinutes;
+    }
+
+    public void setResponseMinutes(Integer responseMinutes) {
+        this.responseMinutes = responseMinutes;
+    }
+
+    public Integer getResolutionMinutes() {
+        return resolutionMinutes;
+    }
+
+    public void setResolutionMinutes(Integer resolutionMinutes) {
+        this.resolutionMinutes = resolutionMinutes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
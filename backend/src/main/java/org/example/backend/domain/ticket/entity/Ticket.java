@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -24,7 +25,10 @@ import org.example.backend.domain.ticket.enums.TicketStatus;
 import org.example.backend.domain.user.entity.User;
 
 @Entity
-@Table(name = "tickets")
+@Table(
+        name = "tickets",
+        indexes = @Index(name = "idx_tickets_sla_next_check", columnList = "sla_next_check_at")
+)
 public class Ticket {
 
     @Id
@@ -66,10 +70,27 @@ public class Ticket {
     @Column(name = "sla_resolution_deadline")
     private LocalDateTime slaResolutionDeadline;
 
+    @Column(name = "sla_response_near_at")
+    private LocalDateTime slaResponseNearAt;
+
+    @Column(name = "sla_resolution_near_at")
+    private LocalDateTime slaResolutionNearAt;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "sla_flag", length = 16)
     private TicketSlaFlag slaFlag = TicketSlaFlag.OK;
 
+    @Column(name = "sla_next_check_at")
+    private LocalDateTime slaNextCheckAt;
+
+    // Set while the SLA clock is stopped (ON_HOLD)
+    @Column(name = "sla_paused_at")
+    private LocalDateTime slaPausedAt;
+
+    // Total time spent paused in completed holds
+    @Column(name = "sla_paused_millis", nullable = false)
+    private long slaPausedMillis;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -211,6 +232,22 @@ public class Ticket {
         this.slaResolutionDeadline = slaResolutionDeadline;
     }
 
+    public LocalDateTime getSlaResponseNearAt() {
+        return slaResponseNearAt;
+    }
+
+    public void setSlaResponseNearAt(LocalDateTime slaResponseNearAt) {
+        this.slaResponseNearAt = slaResponseNearAt;
+    }
+
+    public LocalDateTime getSlaResolutionNearAt() {
+        return slaResolutionNearAt;
+    }
+
+    public void setSlaResolutionNearAt(LocalDateTime slaResolutionNearAt) {
+        this.slaResolutionNearAt = slaResolutionNearAt;
+    }
+
     public TicketSlaFlag getSlaFlag() {
         return slaFlag;
     }
@@ -219,6 +256,30 @@ public class Ticket {
         this.slaFlag = slaFlag;
     }
 
+    public LocalDateTime getSlaNextCheckAt() {
+        return slaNextCheckAt;
+    }
+
+    public void setSlaNextCheckAt(LocalDateTime slaNextCheckAt) {
+        this.slaNextCheckAt = slaNextCheckAt;
+    }
+
+    public LocalDateTime getSlaPausedAt() {
+        return slaPausedAt;
+    }
+
+    public void setSlaPausedAt(LocalDateTime slaPausedAt) {
+        this.slaPausedAt = slaPausedAt;
+    }
+
+    public long getSlaPausedMillis() {
+        return slaPausedMillis;
+    }
+
+    public void setSlaPausedMillis(long slaPausedMillis) {
+        this.slaPausedMillis = slaPausedMillis;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,39 @@
+package org.example.backend.domain.ticket.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "ticket_number_sequences")
+public class TicketNumberSequence {
+
+    @Id
+    @Column(name = "sequence_year")
+    private Integer year;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    protected TicketNumberSequence() {
+        // JPA only
+    }
+
+    public TicketNumberSequence(Integer year, long nextValue) {
+        this.year = year;
+        this.nextValue = nextValue;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.backend.domain.ticket.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import org.example.backend.domain.ticket.enums.TicketEventType;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+
+@Entity
+@Table(name = "ticket_outbox")
+public class TicketOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private TicketEventType eventType;
+
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(name = "reporter_id")
+    private Long reporterId;
+
+    @Column(name = "ticket_number", length = 32)
+    private String ticketNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private TicketStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private TicketPriority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sla_flag", length = 16)
+    private TicketSlaFlag slaFlag;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "is_internal", nullable = false)
+    private boolean internal;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    protected TicketOutboxEntry() {
+        // JPA only
+    }
+
+    public TicketOutboxEntry(
+            TicketEventType eventType,
+            Long ticketId,
+            Long reporterId,
+            String ticketNumber,
+            TicketStatus status,
+            TicketPriority priority,
+            TicketSlaFlag slaFlag,
+            Long assigneeId,
+            Long commentId,
+            boolean internal,
+            LocalDateTime occurredAt
+    ) {
+        this.eventType = eventType;
+        this.ticketId = ticketId;
+        this.reporterId = reporterId;
+        this.ticketNumber = ticketNumber;
+        this.status = status;
+        this.priority = priority;
+        this.slaFlag = slaFlag;
+        this.assigneeId = assigneeId;
+        this.commentId = commentId;
+        this.internal = internal;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public TicketEventType getEventType() {
+        return eventType;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getReporterId() {
+        return reporterId;
+    }
+
+    public String getTicketNumber() {
+        return ticketNumber;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public TicketSlaFlag getSlaFlag() {
+        return slaFlag;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public boolean isInternal() {
+        return internal;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
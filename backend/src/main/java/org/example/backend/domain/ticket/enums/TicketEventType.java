@@ -0,0 +1,11 @@
+package org.example.backend.domain.ticket.enums;
+
+public enum TicketEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    COMMENT_ADDED,
+    SLA_FLAG_CHANGED,
+    DELETED,
+    RESYNC
+}
@@ -0,0 +1,27 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.util.List;
+import org.example.backend.domain.ticket.entity.SlaPolicy;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SlaPolicyRepository extends JpaRepository<SlaPolicy, Long> {
+
+    @EntityGraph(attributePaths = "department")
+    List<SlaPolicy> findAllByOrderByIdAsc();
+
+    boolean existsByPriorityAndCategoryAndDepartmentId(
+            TicketPriority priority,
+            TicketCategory category,
+            Long departmentId
+    );
+
+    // Cheap change marker: any insert, update or delete moves one of the two values
+    @Query("select count(p) as policies, max(p.updatedAt) as lastUpdatedAt from SlaPolicy p")
+    SlaPolicyVersion findVersion();
+}
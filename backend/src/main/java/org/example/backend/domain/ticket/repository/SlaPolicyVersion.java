@@ -0,0 +1,10 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.time.LocalDateTime;
+
+public interface SlaPolicyVersion {
+
+    long getPolicies();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,19 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.time.LocalDateTime;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+
+public interface SlaSnapshotView {
+
+    Long getId();
+
+    LocalDateTime getSlaResponseNearAt();
+
+    LocalDateTime getSlaResponseDeadline();
+
+    LocalDateTime getSlaResolutionNearAt();
+
+    LocalDateTime getSlaResolutionDeadline();
+
+    TicketSlaFlag getSlaFlag();
+}
@@ -1,13 +1,73 @@
 package org.example.backend.domain.ticket.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import org.example.backend.domain.ticket.entity.Ticket;
 import org.example.backend.domain.ticket.entity.TicketComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TicketCommentRepository extends JpaRepository<TicketComment, Long> {
 
-    List<TicketComment> findByTicketOrderByCreatedAtAsc(Ticket ticket);
+    @EntityGraph(attributePaths = "author")
+    List<TicketComment> findByTicketIdAndIdGreaterThanOrderByIdAsc(Long ticketId, Long afterId);
+
+    // Newest-first windows walk idx_ticket_comments_ticket_created backwards
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+            select c from TicketComment c
+            where c.ticket.id = :ticketId
+              and (:includeInternal = true or c.internal = false)
+            order by c.createdAt desc, c.id desc
+            """)
+    List<TicketComment> findLatest(
+            @Param("ticketId") Long ticketId,
+            @Param("includeInternal") boolean includeInternal,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+            select c from TicketComment c
+            where c.ticket.id = :ticketId
+              and (:includeInternal = true or c.internal = false)
+              and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))
+            order by c.createdAt desc, c.id desc
+            """)
+    List<TicketComment> findLatestBefore(
+            @Param("ticketId") Long ticketId,
+            @Param("includeInternal") boolean includeInternal,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            select new org.example.backend.domain.ticket.repository.TicketCommentSearchSource(
+                   c.id, c.ticket.id, c.content, c.internal)
+            from TicketComment c
+            where c.id > :afterId
+            order by c.id
+            """)
+    List<TicketCommentSearchSource> findSearchSources(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("""
+            select new org.example.backend.domain.ticket.repository.TicketCommentSearchSource(
+                   c.id, c.ticket.id, c.content, c.internal)
+            from TicketComment c
+            where c.id in :ids
+            """)
+    List<TicketCommentSearchSource> findSearchSourcesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select count(c) from TicketComment c
+            where c.ticket.id = :ticketId
+              and (:includeInternal = true or c.internal = false)
+            """)
+    long countVisible(@Param("ticketId") Long ticketId, @Param("includeInternal") boolean includeInternal);
 }
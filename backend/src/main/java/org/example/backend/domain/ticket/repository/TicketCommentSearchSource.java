@@ -0,0 +1,9 @@
+package org.example.backend.domain.ticket.repository;
+
+public record TicketCommentSearchSource(
+        Long id,
+        Long ticketId,
+        String content,
+        boolean internal
+) {
+}
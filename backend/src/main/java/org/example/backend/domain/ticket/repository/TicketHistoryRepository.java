@@ -1,13 +1,43 @@
 package org.example.backend.domain.ticket.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import org.example.backend.domain.ticket.entity.Ticket;
 import org.example.backend.domain.ticket.entity.TicketHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TicketHistoryRepository extends JpaRepository<TicketHistory, Long> {
 
-    List<TicketHistory> findByTicketOrderByCreatedAtAsc(Ticket ticket);
+    @EntityGraph(attributePaths = "changedBy")
+    List<TicketHistory> findByTicketIdAndIdGreaterThanOrderByIdAsc(Long ticketId, Long afterId);
+
+    // Newest-first windows walk idx_ticket_history_ticket_created backwards
+    @EntityGraph(attributePaths = "changedBy")
+    @Query("""
+            select h from TicketHistory h
+            where h.ticket.id = :ticketId
+            order by h.createdAt desc, h.id desc
+            """)
+    List<TicketHistory> findLatest(@Param("ticketId") Long ticketId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "changedBy")
+    @Query("""
+            select h from TicketHistory h
+            where h.ticket.id = :ticketId
+              and (h.createdAt < :createdAt or (h.createdAt = :createdAt and h.id < :id))
+            order by h.createdAt desc, h.id desc
+            """)
+    List<TicketHistory> findLatestBefore(
+            @Param("ticketId") Long ticketId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    long countByTicketId(Long ticketId);
 }
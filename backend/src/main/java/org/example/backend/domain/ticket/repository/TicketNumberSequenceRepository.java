@@ -0,0 +1,18 @@
+package org.example.backend.domain.ticket.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.example.backend.domain.ticket.entity.TicketNumberSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TicketNumberSequenceRepository extends JpaRepository<TicketNumberSequence, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TicketNumberSequence s where s.year = :year")
+    Optional<TicketNumberSequence> findForUpdate(@Param("year") int year);
+}
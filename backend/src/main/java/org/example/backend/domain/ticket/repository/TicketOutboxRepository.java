@@ -0,0 +1,25 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.ticket.entity.TicketOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TicketOutboxRepository extends JpaRepository<TicketOutboxEntry, Long> {
+
+    @Query("select e from TicketOutboxEntry e where e.id > :afterId order by e.id")
+    List<TicketOutboxEntry> findAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select coalesce(max(e.id), 0) from TicketOutboxEntry e")
+    long findMaxId();
+
+    @Modifying
+    @Query("delete from TicketOutboxEntry e where e.occurredAt < :cutoff")
+    int deleteOccurredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,19 +1,221 @@
 package org.example.backend.domain.ticket.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
 import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>,
+        TicketSummaryRepository {
 
-    List<Ticket> findByStatusIn(List<TicketStatus> statuses);
+    // Keyset page of resolved tickets past the threshold, row-locked for the current chunk transaction.
+    // Returns [ticket id, history actor id] pairs so no entity is loaded.
+    @Query(value = """
+            select t.id, coalesce(t.assignee_id, t.reporter_id)
+            from tickets t
+            where t.status = :status and t.resolved_at < :threshold and t.id > :afterId
+            order by t.id
+            limit :limit
+            for update
+            """, nativeQuery = true)
+    List<Object[]> lockAutoCloseCandidates(
+            @Param("status") String status,
+            @Param("threshold") LocalDateTime threshold,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
 
-    List<Ticket> findByStatusAndResolvedAtBefore(TicketStatus status, LocalDateTime threshold);
+    @Modifying
+    @Query("""
+            update Ticket t
+            set t.status = :closed, t.closedAt = :now, t.slaFlag = :ok, t.slaNextCheckAt = null, t.updatedAt = :now
+            where t.id in :ids and t.status = :resolved
+            """)
+    int closeResolved(
+            @Param("ids") Collection<Long> ids,
+            @Param("resolved") TicketStatus resolved,
+            @Param("closed") TicketStatus closed,
+            @Param("ok") TicketSlaFlag ok,
+            @Param("now") LocalDateTime now
+    );
 
-    boolean existsByTicketNumber(String ticketNumber);
+    @Query("""
+            select t.ticketNumber from Ticket t
+            where t.ticketNumber like :prefix
+            order by length(t.ticketNumber) desc, t.ticketNumber desc
+            """)
+    List<String> findHighestTicketNumbers(@Param("prefix") String prefix, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"reporter", "assignee"})
+    @Query("select t from Ticket t where t.id = :id")
+    Optional<Ticket> findDetailById(@Param("id") Long id);
+
+    @Query("""
+            select new org.example.backend.domain.ticket.repository.TicketSearchSource(
+                   t.id, t.reporter.id, t.subject, t.description)
+            from Ticket t
+            where t.id > :afterId
+            order by t.id
+            """)
+    List<TicketSearchSource> findSearchSources(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("""
+            select new org.example.backend.domain.ticket.repository.TicketSearchSource(
+                   t.id, t.reporter.id, t.subject, t.description)
+            from Ticket t
+            where t.id in :ids
+            """)
+    List<TicketSearchSource> findSearchSourcesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select t.reporter.id from Ticket t where t.id = :id")
+    Optional<Long> findReporterIdById(@Param("id") Long id);
+
+    // Everything a ticket detail is built from changes one of these; answered from the primary key and FK indexes
+    @Query("""
+            select t.reporter.id as reporterId,
+                   t.updatedAt as updatedAt,
+                   (select max(c.id) from TicketComment c where c.ticket = t) as lastCommentId,
+                   (select max(h.id) from TicketHistory h where h.ticket = t) as lastHistoryId
+            from Ticket t
+            where t.id = :id
+            """)
+    Optional<TicketVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select min(t.id) from Ticket t")
+    Long findMinId();
+
+    @Query("select max(t.id) from Ticket t")
+    Long findMaxId();
+
+    // Reporter departments select the working calendar when deadlines are recomputed
+    @EntityGraph(attributePaths = {"reporter", "reporter.department"})
+    List<Ticket> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long afterId, Long upperId, Pageable pageable);
+
+    @Query("""
+            select t.id as id, t.slaNextCheckAt as slaNextCheckAt
+            from Ticket t
+            where t.status in :statuses and t.slaNextCheckAt is not null
+            """)
+    List<SlaTimerView> findSlaTimers(@Param("statuses") Collection<TicketStatus> statuses);
+
+    @Query("""
+            select t.id as id,
+                   t.slaResponseNearAt as slaResponseNearAt, t.slaResponseDeadline as slaResponseDeadline,
+                   t.slaResolutionNearAt as slaResolutionNearAt, t.slaResolutionDeadline as slaResolutionDeadline,
+                   t.slaFlag as slaFlag
+            from Ticket t
+            where t.status in :statuses and t.slaNextCheckAt is not null
+            """)
+    List<SlaSnapshotView> findSlaSnapshotRows(@Param("statuses") Collection<TicketStatus> statuses);
+
+    @Query("""
+            select t.id as id,
+                   t.slaResponseNearAt as slaResponseNearAt, t.slaResponseDeadline as slaResponseDeadline,
+                   t.slaResolutionNearAt as slaResolutionNearAt, t.slaResolutionDeadline as slaResolutionDeadline,
+                   t.slaFlag as slaFlag
+            from Ticket t
+            where t.id in :ids and t.status in :statuses and t.slaNextCheckAt is not null
+            """)
+    List<SlaSnapshotView> findSlaSnapshotRowsByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("statuses") Collection<TicketStatus> statuses
+    );
+
+    // Rows a bulk flag update stamped with its own timestamp
+    @Query("select t.id from Ticket t where t.id in :ids and t.slaFlag = :flag and t.updatedAt = :updatedAt")
+    List<Long> findIdsBySlaFlagAndUpdatedAt(
+            @Param("ids") Collection<Long> ids,
+            @Param("flag") TicketSlaFlag flag,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("""
+            update Ticket t
+            set t.slaFlag = :breached, t.slaNextCheckAt = null, t.updatedAt = :now
+            where t.id in :ids
+              and t.status in :statuses
+              and (t.slaResponseDeadline <= :now or t.slaResolutionDeadline <= :now)
+            """)
+    int markSlaBreachedByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("statuses") Collection<TicketStatus> statuses,
+            @Param("breached") TicketSlaFlag breached,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("""
+            update Ticket t
+            set t.slaFlag = :near,
+                t.slaNextCheckAt = case
+                    when t.slaResolutionDeadline is null then t.slaResponseDeadline
+                    when t.slaResponseDeadline is null then t.slaResolutionDeadline
+                    when t.slaResponseDeadline < t.slaResolutionDeadline then t.slaResponseDeadline
+                    else t.slaResolutionDeadline
+                end,
+                t.updatedAt = :now
+            where t.id in :ids
+              and t.status in :statuses
+              and t.slaFlag = :ok
+              and (t.slaResponseNearAt <= :now or t.slaResolutionNearAt <= :now)
+            """)
+    int markSlaNearByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("statuses") Collection<TicketStatus> statuses,
+            @Param("ok") TicketSlaFlag ok,
+            @Param("near") TicketSlaFlag near,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("""
+            update Ticket t
+            set t.slaFlag = :breached, t.slaNextCheckAt = null, t.updatedAt = :now
+            where t.slaNextCheckAt <= :now
+              and t.status in :statuses
+              and t.slaFlag <> :breached
+              and (t.slaResponseDeadline <= :now or t.slaResolutionDeadline <= :now)
+            """)
+    int markSlaBreached(
+            @Param("statuses") Collection<TicketStatus> statuses,
+            @Param("breached") TicketSlaFlag breached,
+            @Param("now") LocalDateTime now
+    );
+
+    // Once NEAR, the next possible change is the earliest deadline, which becomes the next check.
+    @Modifying
+    @Query("""
+            update Ticket t
+            set t.slaFlag = :near,
+                t.slaNextCheckAt = case
+                    when t.slaResolutionDeadline is null then t.slaResponseDeadline
+                    when t.slaResponseDeadline is null then t.slaResolutionDeadline
+                    when t.slaResponseDeadline < t.slaResolutionDeadline then t.slaResponseDeadline
+                    else t.slaResolutionDeadline
+                end,
+                t.updatedAt = :now
+            where t.slaNextCheckAt <= :now
+              and t.status in :statuses
+              and t.slaFlag = :ok
+              and (t.slaResponseNearAt <= :now or t.slaResolutionNearAt <= :now)
+            """)
+    int markSlaNear(
+            @Param("statuses") Collection<TicketStatus> statuses,
+            @Param("ok") TicketSlaFlag ok,
+            @Param("near") TicketSlaFlag near,
+            @Param("now") LocalDateTime now
+    );
 }
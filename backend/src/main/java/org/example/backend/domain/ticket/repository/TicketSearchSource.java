@@ -0,0 +1,9 @@
+package org.example.backend.domain.ticket.repository;
+
+public record TicketSearchSource(
+        Long id,
+        Long reporterId,
+        String subject,
+        String description
+) {
+}
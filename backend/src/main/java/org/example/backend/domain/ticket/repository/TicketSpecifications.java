@@ -1,6 +1,8 @@
 package org.example.backend.domain.ticket.repository;
 
+import jakarta.persistence.criteria.Path;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import org.example.backend.domain.ticket.entity.Ticket;
 import org.example.backend.domain.ticket.enums.TicketPriority;
 import org.example.backend.domain.ticket.enums.TicketStatus;
@@ -52,10 +54,31 @@ public final class TicketSpecifications {
         return (root, query, builder) -> builder.equal(root.get("reporter").get("id"), reporterId);
     }
 
+    public static Specification<Ticket> idIn(Collection<Long> ids) {
+        return (root, query, builder) -> root.get("id").in(ids);
+    }
+
     public static Specification<Ticket> createdAfter(LocalDateTime threshold) {
         if (threshold == null) {
             return null;
         }
         return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("createdAt"), threshold);
     }
+
+    public static Specification<Ticket> createdBeyond(LocalDateTime createdAt, Long id, boolean descending) {
+        if (createdAt == null || id == null) {
+            return null;
+        }
+        return (root, query, builder) -> {
+            Path<LocalDateTime> created = root.get("createdAt");
+            Path<Long> ticketId = root.get("id");
+            return descending
+                    ? builder.or(
+                            builder.lessThan(created, createdAt),
+                            builder.and(builder.equal(created, createdAt), builder.lessThan(ticketId, id)))
+                    : builder.or(
+                            builder.greaterThan(created, createdAt),
+                            builder.and(builder.equal(created, createdAt), builder.greaterThan(ticketId, id)));
+        };
+    }
 }
@@ -0,0 +1,15 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.util.List;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TicketSummaryRepository {
+
+    Page<TicketSummaryRow> findSummaries(Specification<Ticket> spec, Pageable pageable);
+
+    List<TicketSummaryRow> findSummaries(Specification<Ticket> spec, Sort sort, int limit);
+}
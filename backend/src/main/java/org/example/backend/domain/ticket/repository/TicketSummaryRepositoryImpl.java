@@ -0,0 +1,96 @@
+package org.example.backend.domain.ticket.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+class TicketSummaryRepositoryImpl implements TicketSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TicketSummaryRow> findSummaries(Specification<Ticket> spec, Pageable pageable) {
+        TypedQuery<TicketSummaryRow> query = createSummaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TicketSummaryRow> findSummaries(Specification<Ticket> spec, Sort sort, int limit) {
+        return createSummaryQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<TicketSummaryRow> createSummaryQuery(Specification<Ticket> spec, Sort sort) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketSummaryRow> query = builder.createQuery(TicketSummaryRow.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        Join<Ticket, User> assignee = root.join("assignee", JoinType.LEFT);
+
+        query.select(builder.construct(
+                TicketSummaryRow.class,
+                root.get("id"),
+                root.get("ticketNumber"),
+                root.get("subject"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("category"),
+                assignee.get("id"),
+                assignee.get("fullName"),
+                assignee.get("username"),
+                root.get("createdAt"),
+                root.get("slaResponseDeadline"),
+                root.get("slaResolutionDeadline"),
+                root.get("slaFlag")
+        ));
+        Predicate predicate = toPredicate(spec, root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Ticket> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        query.select(builder.count(root));
+        Predicate predicate = toPredicate(spec, root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate toPredicate(
+            Specification<Ticket> spec,
+            Root<Ticket> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder builder
+    ) {
+        return spec != null ? spec.toPredicate(root, query, builder) : null;
+    }
+}
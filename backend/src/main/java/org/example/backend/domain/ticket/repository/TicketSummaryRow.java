@@ -0,0 +1,24 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.time.LocalDateTime;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+
+public record TicketSummaryRow(
+        Long id,
+        String ticketNumber,
+        String subject,
+        TicketStatus status,
+        TicketPriority priority,
+        TicketCategory category,
+        Long assigneeId,
+        String assigneeFullName,
+        String assigneeUsername,
+        LocalDateTime createdAt,
+        LocalDateTime slaResponseDeadline,
+        LocalDateTime slaResolutionDeadline,
+        TicketSlaFlag slaFlag
+) {
+}
@@ -0,0 +1,14 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.time.LocalDateTime;
+
+public interface TicketVersion {
+
+    Long getReporterId();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getLastCommentId();
+
+    Long getLastHistoryId();
+}
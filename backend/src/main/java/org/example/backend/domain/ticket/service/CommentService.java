@@ -2,6 +2,7 @@
 package org.example.backend.domain.ticket.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.example.backend.domain.auth.service.AuthUserDetails;
 import org.example.backend.domain.ticket.entity.Ticket;
@@ -11,6 +12,7 @@ import org.example.backend.domain.ticket.repository.TicketRepository;
 import org.example.backend.domain.user.entity.User;
 import org.example.backend.domain.user.enums.UserRole;
 import org.example.backend.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -22,15 +24,18 @@ public class CommentService {
     private final TicketRepository ticketRepository;
     private final TicketCommentRepository ticketCommentRepository;
     private final UserRepository userRepository;
+    private final TicketOutbox ticketOutbox;
 
     public CommentService(
             TicketRepository ticketRepository,
             TicketCommentRepository ticketCommentRepository,
-            UserRepository userRepository
+            UserRepository userRepository,
+            TicketOutbox ticketOutbox
     ) {
         this.ticketRepository = ticketRepository;
         this.ticketCommentRepository = ticketCommentRepository;
         this.userRepository = userRepository;
+        this.ticketOutbox = ticketOutbox;
     }
 
     public TicketComment addComment(Long ticketId, AuthUserDetails actor, String content, boolean internal) {
@@ -53,13 +58,36 @@ public class CommentService {
                 .orElseThrow(() -> new EntityNotFoundException("Author not found"));
 
         TicketComment comment = new TicketComment(ticket, author, content.trim(), internal);
-        return ticketCommentRepository.save(comment);
+        TicketComment saved = ticketCommentRepository.save(comment);
+        ticketOutbox.append(TicketEvent.commentAdded(saved));
+        return saved;
     }
 
     @Transactional(readOnly = true)
-    public List<TicketComment> findComments(Long ticketId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
-        return ticketCommentRepository.findByTicketOrderByCreatedAtAsc(ticket);
+    public List<TicketComment> findCommentsAfter(Long ticketId, long afterId) {
+        return ticketCommentRepository.findByTicketIdAndIdGreaterThanOrderByIdAsc(ticketId, afterId);
+    }
+
+    /**
+     * Up to {@code limit} comments, newest first, strictly older than the given position; the
+     * latest ones when {@code beforeId} is null.
+     */
+    @Transactional(readOnly = true)
+    public List<TicketComment> findLatestComments(
+            Long ticketId,
+            boolean includeInternal,
+            LocalDateTime beforeCreatedAt,
+            Long beforeId,
+            int limit
+    ) {
+        PageRequest window = PageRequest.of(0, limit);
+        return beforeId == null
+                ? ticketCommentRepository.findLatest(ticketId, includeInternal, window)
+                : ticketCommentRepository.findLatestBefore(ticketId, includeInternal, beforeCreatedAt, beforeId, window);
+    }
+
+    @Transactional(readOnly = true)
+    public long countComments(Long ticketId, boolean includeInternal) {
+        return ticketCommentRepository.countVisible(ticketId, includeInternal);
     }
 }
@@ -0,0 +1,27 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Working-hour calendars for SLA deadlines, e.g.
+ * <pre>
+ * app.sla.calendar.definitions.office.hours=MON-FRI 08:00-12:00,13:00-17:00
+ * app.sla.calendar.definitions.office.holidays=2025-01-01,2025-12-25
+ * app.sla.calendar.departments.IT=office
+ * </pre>
+ * Departments without an entry use {@code default-calendar}; the built-in {@code 24x7} calendar
+ * counts every minute.
+ */
+@ConfigurationProperties(prefix = "app.sla.calendar")
+public record SlaCalendarProperties(
+        @DefaultValue(WorkingCalendar.ALWAYS_OPEN) String defaultCalendar,
+        Map<String, Definition> definitions,
+        Map<String, String> departments
+) {
+
+    public record Definition(List<String> hours, List<String> holidays) {
+    }
+}
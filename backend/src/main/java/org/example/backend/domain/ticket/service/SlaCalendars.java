@@ -0,0 +1,71 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.example.backend.domain.department.entity.Department;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlaCalendars {
+
+    private final Map<String, WorkingCalendar> calendarsByName = new HashMap<>();
+    private final Map<String, WorkingCalendar> calendarsByDepartment = new HashMap<>();
+    private final WorkingCalendar defaultCalendar;
+
+    public SlaCalendars(SlaCalendarProperties properties) {
+        calendarsByName.put(WorkingCalendar.ALWAYS_OPEN, WorkingCalendar.alwaysOpen());
+        if (properties.definitions() != null) {
+            properties.definitions().forEach((name, definition) -> calendarsByName.put(
+                    normalizeName(name),
+                    WorkingCalendar.of(normalizeName(name), definition.hours(), parseHolidays(name, definition.holidays()))
+            ));
+        }
+        this.defaultCalendar = calendar(properties.defaultCalendar());
+        if (properties.departments() != null) {
+            properties.departments().forEach((code, name) ->
+                    calendarsByDepartment.put(code.toUpperCase(Locale.ROOT), calendar(name)));
+        }
+    }
+
+    public static SlaCalendars alwaysOpen() {
+        return new SlaCalendars(new SlaCalendarProperties(WorkingCalendar.ALWAYS_OPEN, null, null));
+    }
+
+    boolean hasDepartmentCalendars() {
+        return !calendarsByDepartment.isEmpty();
+    }
+
+    WorkingCalendar forDepartment(Department department) {
+        if (department == null || department.getCode() == null) {
+            return defaultCalendar;
+        }
+        return calendarsByDepartment.getOrDefault(department.getCode().toUpperCase(Locale.ROOT), defaultCalendar);
+    }
+
+    private WorkingCalendar calendar(String name) {
+        WorkingCalendar calendar = calendarsByName.get(normalizeName(name));
+        if (calendar == null) {
+            throw new IllegalArgumentException("Unknown SLA calendar: " + name);
+        }
+        return calendar;
+    }
+
+    private static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<LocalDate> parseHolidays(String name, List<String> holidays) {
+        if (holidays == null) {
+            return List.of();
+        }
+        try {
+            return holidays.stream().map(String::trim).map(LocalDate::parse).toList();
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid holiday in SLA calendar " + name, ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+import org.example.backend.domain.ticket.entity.SlaPolicy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the compiled SLA policy table. Readers take the current table once per use; a reload compiles
+ * a new table and swaps it in, so in-flight lookups never see a half-built table.
+ */
+@Component
+public class SlaPolicies {
+
+    private final AtomicReference<SlaPolicyTable> table = new AtomicReference<>(SlaPolicyTable.EMPTY);
+
+    SlaPolicyTable current() {
+        return table.get();
+    }
+
+    void replace(Collection<SlaPolicy> policies) {
+        table.set(SlaPolicyTable.compile(policies));
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.backend.domain.ticket.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Objects;
+import org.example.backend.domain.department.dto.DepartmentLiteDto;
+import org.example.backend.domain.department.entity.Department;
+import org.example.backend.domain.ticket.dto.request.CreateSlaPolicyRequest;
+import org.example.backend.domain.ticket.dto.request.UpdateSlaPolicyRequest;
+import org.example.backend.domain.ticket.dto.response.SlaPolicyResponse;
+import org.example.backend.domain.ticket.entity.SlaPolicy;
+import org.example.backend.domain.ticket.repository.SlaPolicyRepository;
+import org.example.backend.domain.ticket.repository.SlaPolicyVersion;
+import org.example.backend.domain.user.repository.DepartmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Admin operations on SLA policies. Every change recompiles the in-memory table after commit; other
+ * nodes pick changes up through the periodic version check.
+ */
+@Service
+public class SlaPolicyService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaPolicyService.class);
+    private static final String DUPLICATE_POLICY = "An SLA policy for this priority, category and department already exists.";
+
+    private final SlaPolicyRepository slaPolicyRepository;
+    private final DepartmentRepository departmentRepository;
+    private final SlaPolicies slaPolicies;
+    private volatile SlaPolicyVersion loadedVersion;
+
+    public SlaPolicyService(
+            SlaPolicyRepository slaPolicyRepository,
+            DepartmentRepository departmentRepository,
+            SlaPolicies slaPolicies
+    ) {
+        this.slaPolicyRepository = slaPolicyRepository;
+        this.departmentRepository = departmentRepository;
+        this.slaPolicies = slaPolicies;
+    }
+
+    // Before CommandLineRunners, so seeded tickets already get policy-based deadlines
+    @EventListener(ContextRefreshedEvent.class)
+    public void load() {
+        SlaPolicyVersion version = slaPolicyRepository.findVersion();
+        List<SlaPolicy> policies = slaPolicyRepository.findAllByOrderByIdAsc();
+        slaPolicies.replace(policies);
+        loadedVersion = version;
+        log.info("[SLA-POLICY] compiled {} policies", policies.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.sla.policy.refresh-ms:60000}")
+    public void refreshIfChanged() {
+        SlaPolicyVersion loaded = loadedVersion;
+        SlaPolicyVersion version = slaPolicyRepository.findVersion();
+        if (loaded == null
+                || loaded.getPolicies() != version.getPolicies()
+                || !Objects.equals(loaded.getLastUpdatedAt(), version.getLastUpdatedAt())) {
+            load();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<SlaPolicyResponse> listPolicies() {
+        return slaPolicyRepository.findAllByOrderByIdAsc().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public SlaPolicyResponse createPolicy(CreateSlaPolicyRequest request) {
+        if (slaPolicyRepository.existsByPriorityAndCategoryAndDepartmentId(
+                request.priority(), request.category(), request.departmentId())) {
+            throw new IllegalStateException(DUPLICATE_POLICY);
+        }
+        SlaPolicy policy = new SlaPolicy(
+                request.priority(),
+                request.category(),
+                resolveDepartment(request.departmentId()),
+                request.responseMinutes(),
+                request.resolutionMinutes()
+        );
+        SlaPolicy saved;
+        try {
+            saved = slaPolicyRepository.saveAndFlush(policy);
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent create passed the check above first; uq_sla_policies_scope rejected this one
+            throw new IllegalStateException(DUPLICATE_POLICY, ex);
+        }
+        reloadAfterCommit();
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public SlaPolicyResponse updatePolicy(Long id, UpdateSlaPolicyRequest request) {
+        SlaPolicy policy = findPolicyOrThrow(id);
+        policy.setResponseMinutes(request.responseMinutes());
+        policy.setResolutionMinutes(request.resolutionMinutes());
+        SlaPolicy saved = slaPolicyRepository.saveAndFlush(policy);
+        reloadAfterCommit();
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public void deletePolicy(Long id) {
+        slaPolicyRepository.delete(findPolicyOrThrow(id));
+        reloadAfterCommit();
+    }
+
+    private void reloadAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                load();
+            }
+        });
+    }
+
+    private SlaPolicy findPolicyOrThrow(Long id) {
+        return slaPolicyRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("SLA policy not found with id: " + id));
+    }
+
+    private Department resolveDepartment(Long departmentId) {
+        if (departmentId == null) {
+            return null;
+        }
+        return departmentRepository.findById(departmentId)
+                .orElseThrow(() -> new EntityNotFoundException("Department not found with id: " + departmentId));
+    }
+
+    private SlaPolicyResponse toResponse(SlaPolicy policy) {
+        Department department = policy.getDepartment();
+        return new SlaPolicyResponse(
+                policy.getId(),
+                policy.getPriority().name(),
+                policy.getCategory() != null ? policy.getCategory().name() : null,
+                department != null
+                        ? new DepartmentLiteDto(department.getId(), department.getCode(), department.getName())
+                        : null,
+                policy.getResponseMinutes(),
+                policy.getResolutionMinutes(),
+                policy.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.example.backend.domain.department.entity.Department;
+import org.example.backend.domain.ticket.entity.SlaPolicy;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+
+/**
+ * Immutable SLA targets resolved for every priority x category x department combination, so a ticket's
+ * targets are one array index. Departments without policies of their own share slot 0. For each cell
+ * the most specific policy wins: department and category, then department, then category, then
+ * priority only.
+ */
+final class SlaPolicyTable {
+
+    static final long NO_TARGET = -1L;
+
+    private static final double NEAR_THRESHOLD = 0.8;
+    private static final TicketPriority[] PRIORITIES = TicketPriority.values();
+    private static final TicketCategory[] CATEGORIES = TicketCategory.values();
+    // Last category slot is for tickets without a category
+    private static final int CATEGORY_SLOTS = CATEGORIES.length + 1;
+
+    static final SlaPolicyTable EMPTY = compile(List.of());
+
+    private final Map<Long, Integer> departmentSlots;
+    private final long[] responseMillis;
+    private final long[] responseNearMillis;
+    private final long[] resolutionMillis;
+    private final long[] resolutionNearMillis;
+
+    private SlaPolicyTable(
+            Map<Long, Integer> departmentSlots,
+            long[] responseMillis,
+            long[] responseNearMillis,
+            long[] resolutionMillis,
+            long[] resolutionNearMillis
+    ) {
+        this.departmentSlots = departmentSlots;
+        this.responseMillis = responseMillis;
+        this.responseNearMillis = responseNearMillis;
+        this.resolutionMillis = resolutionMillis;
+        this.resolutionNearMillis = resolutionNearMillis;
+    }
+
+    static SlaPolicyTable compile(Collection<SlaPolicy> policies) {
+        Map<Key, SlaPolicy> byKey = new HashMap<>();
+        Map<Long, Integer> departmentSlots = new HashMap<>();
+        for (SlaPolicy policy : policies) {
+            Long departmentId = departmentId(policy.getDepartment());
+            if (departmentId != null) {
+                departmentSlots.putIfAbsent(departmentId, departmentSlots.size() + 1);
+            }
+            byKey.put(new Key(policy.getPriority(), policy.getCategory(), departmentId), policy);
+        }
+
+        Long[] departmentBySlot = new Long[departmentSlots.size() + 1];
+        departmentSlots.forEach((departmentId, slot) -> departmentBySlot[slot] = departmentId);
+
+        int cells = departmentBySlot.length * PRIORITIES.length * CATEGORY_SLOTS;
+        long[] response = new long[cells];
+        long[] responseNear = new long[cells];
+        long[] resolution = new long[cells];
+        long[] resolutionNear = new long[cells];
+        Arrays.fill(response, NO_TARGET);
+        Arrays.fill(responseNear, NO_TARGET);
+        Arrays.fill(resolution, NO_TARGET);
+        Arrays.fill(resolutionNear, NO_TARGET);
+
+        for (int slot = 0; slot < departmentBySlot.length; slot++) {
+            for (TicketPriority priority : PRIORITIES) {
+                for (int categorySlot = 0; categorySlot < CATEGORY_SLOTS; categorySlot++) {
+                    TicketCategory category = categorySlot < CATEGORIES.length ? CATEGORIES[categorySlot] : null;
+                    SlaPolicy policy = resolve(byKey, priority, category, departmentBySlot[slot]);
+                    if (policy == null) {
+                        continue;
+                    }
+                    int index = index(slot, priority.ordinal(), categorySlot);
+                    response[index] = toMillis(policy.getResponseMinutes());
+                    responseNear[index] = nearOffset(response[index]);
+                    resolution[index] = toMillis(policy.getResolutionMinutes());
+                    resolutionNear[index] = nearOffset(resolution[index]);
+                }
+            }
+        }
+        return new SlaPolicyTable(Map.copyOf(departmentSlots), response, responseNear, resolution, resolutionNear);
+    }
+
+    boolean hasDepartmentRules() {
+        return !departmentSlots.isEmpty();
+    }
+
+    int indexOf(TicketPriority priority, TicketCategory category, Department department) {
+        Long departmentId = departmentId(department);
+        int slot = departmentId != null ? departmentSlots.getOrDefault(departmentId, 0) : 0;
+        return index(slot, priority.ordinal(), category != null ? category.ordinal() : CATEGORIES.length);
+    }
+
+    long responseMillis(int index) {
+        return responseMillis[index];
+    }
+
+    long responseNearMillis(int index) {
+        return responseNearMillis[index];
+    }
+
+    long resolutionMillis(int index) {
+        return resolutionMillis[index];
+    }
+
+    long resolutionNearMillis(int index) {
+        return resolutionNearMillis[index];
+    }
+
+    private static SlaPolicy resolve(
+            Map<Key, SlaPolicy> byKey,
+            TicketPriority priority,
+            TicketCategory category,
+            Long departmentId
+    ) {
+        SlaPolicy policy = null;
+        if (departmentId != null) {
+            policy = category != null ? byKey.get(new Key(priority, category, departmentId)) : null;
+            if (policy == null) {
+                policy = byKey.get(new Key(priority, null, departmentId));
+            }
+        }
+        if (policy == null && category != null) {
+            policy = byKey.get(new Key(priority, category, null));
+        }
+        if (policy == null) {
+            policy = byKey.get(new Key(priority, null, null));
+        }
+        return policy;
+    }
+
+    private static int index(int departmentSlot, int priorityOrdinal, int categorySlot) {
+        return (departmentSlot * PRIORITIES.length + priorityOrdinal) * CATEGORY_SLOTS + categorySlot;
+    }
+
+    private static Long departmentId(Department department) {
+        return department != null ? department.getId() : null;
+    }
+
+    private static long toMillis(Integer minutes) {
+        return minutes != null && minutes > 0 ? Duration.ofMinutes(minutes).toMillis() : NO_TARGET;
+    }
+
+    private static long nearOffset(long targetMillis) {
+        if (targetMillis == NO_TARGET) {
+            return NO_TARGET;
+        }
+        return SlaTimeCalculator.thresholdOffset(Duration.ofMillis(targetMillis), NEAR_THRESHOLD).toMillis();
+    }
+
+    private record Key(TicketPriority priority, TicketCategory category, Long departmentId) {
+    }
+}
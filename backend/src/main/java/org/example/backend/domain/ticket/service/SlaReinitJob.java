@@ -0,0 +1,198 @@
+package org.example.backend.domain.ticket.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class SlaReinitJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaReinitJob.class);
+    // Finished tickets keep the SLA outcome they ended with
+    private static final Set<TicketStatus> FINISHED_STATUSES = EnumSet.of(TicketStatus.RESOLVED, TicketStatus.CLOSED);
+
+    private final TicketRepository ticketRepository;
+    private final SlaService slaService;
+    private final SlaTimerService slaTimerService;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor taskExecutor;
+    private final int chunkSize;
+    private final int partitions;
+    private final AtomicReference<JobRun> current = new AtomicReference<>();
+
+    public SlaReinitJob(
+            TicketRepository ticketRepository,
+            SlaService slaService,
+            SlaTimerService slaTimerService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+            AsyncTaskExecutor taskExecutor,
+            @Value("${app.sla.reinit.chunk-size:500}") int chunkSize,
+            @Value("${app.sla.reinit.partitions:4}") int partitions
+    ) {
+        if (chunkSize <= 0 || partitions <= 0) {
+            throw new IllegalArgumentException("SLA re-init chunk size and partitions must be positive");
+        }
+        this.ticketRepository = ticketRepository;
+        this.slaService = slaService;
+        this.slaTimerService = slaTimerService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+        this.partitions = partitions;
+    }
+
+    public SlaReinitStatus start() {
+        JobRun running = current.get();
+        if (running != null && running.state == SlaReinitStatus.State.RUNNING) {
+            throw new IllegalStateException("SLA re-initialization is already running");
+        }
+
+        JobRun run = new JobRun(UUID.randomUUID().toString(), ticketRepository.count(), LocalDateTime.now());
+        if (!current.compareAndSet(running, run)) {
+            throw new IllegalStateException("SLA re-initialization is already running");
+        }
+
+        Long minId = ticketRepository.findMinId();
+        Long maxId = ticketRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            run.complete(null);
+            return run.snapshot();
+        }
+
+        // Split [minId, maxId] into contiguous id ranges that are walked concurrently
+        long span = maxId - minId + 1;
+        long step = Math.max(1, Math.ceilDiv(span, partitions));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long lower = minId; lower <= maxId; lower += step) {
+            long afterId = lower - 1;
+            long upperId = Math.min(maxId, lower + step - 1);
+            futures.add(CompletableFuture.runAsync(() -> processPartition(run, afterId, upperId), taskExecutor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> {
+                    run.complete(error);
+                    SlaReinitStatus status = run.snapshot();
+                    if (error != null) {
+                        log.error("[SLA-REINIT] job {} failed after {} tickets", run.jobId, status.processed(), error);
+                    } else {
+                        log.info("[SLA-REINIT] job {} processed {} tickets ({}/s)",
+                                run.jobId, status.processed(), Math.round(status.throughputPerSecond()));
+                    }
+                });
+        return run.snapshot();
+    }
+
+    public SlaReinitStatus status(String jobId) {
+        JobRun run = current.get();
+        if (run == null || !run.jobId.equals(jobId)) {
+            throw new EntityNotFoundException("SLA re-init job not found");
+        }
+        return run.snapshot();
+    }
+
+    private void processPartition(JobRun run, long afterId, long upperId) {
+        long cursor = afterId;
+        while (true) {
+            long chunkAfterId = cursor;
+            List<Ticket> chunk = transactionTemplate.execute(status -> reinitializeChunk(chunkAfterId, upperId));
+            if (chunk == null || chunk.isEmpty()) {
+                return;
+            }
+            chunk.forEach(slaTimerService::track);
+            run.processed.addAndGet(chunk.size());
+            cursor = chunk.get(chunk.size() - 1).getId();
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+
+    private List<Ticket> reinitializeChunk(long afterId, long upperId) {
+        List<Ticket> tickets = ticketRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                afterId,
+                upperId,
+                PageRequest.of(0, chunkSize)
+        );
+        LocalDateTime now = LocalDateTime.now();
+        for (Ticket ticket : tickets) {
+            if (FINISHED_STATUSES.contains(ticket.getStatus())) {
+                continue;
+            }
+            slaService.initializeSla(ticket, now);
+            if (!SlaTimerService.TRACKED_STATUSES.contains(ticket.getStatus())) {
+                ticket.setSlaNextCheckAt(null);
+            }
+        }
+        // Dirty tickets are flushed on commit as JDBC batches (hibernate.jdbc.batch_size)
+        return tickets;
+    }
+
+    private static final class JobRun {
+
+        private final String jobId;
+        private final long total;
+        private final LocalDateTime startedAt;
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong processed = new AtomicLong();
+        private volatile SlaReinitStatus.State state = SlaReinitStatus.State.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+        private volatile String error;
+
+        private JobRun(String jobId, long total, LocalDateTime startedAt) {
+            this.jobId = jobId;
+            this.total = total;
+            this.startedAt = startedAt;
+        }
+
+        private void complete(Throwable failure) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            if (failure != null) {
+                error = failure.getMessage();
+                state = SlaReinitStatus.State.FAILED;
+            } else {
+                state = SlaReinitStatus.State.COMPLETED;
+            }
+        }
+
+        private SlaReinitStatus snapshot() {
+            long done = processed.get();
+            long endNanos = state == SlaReinitStatus.State.RUNNING ? System.nanoTime() : finishedNanos;
+            double seconds = Math.max(Duration.ofNanos(endNanos - startedNanos).toMillis() / 1000.0, 0.001);
+            return new SlaReinitStatus(
+                    jobId,
+                    state,
+                    total,
+                    done,
+                    startedAt,
+                    finishedAt,
+                    done / seconds,
+                    error
+            );
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.LocalDateTime;
+
+public record SlaReinitStatus(
+        String jobId,
+        State state,
+        long total,
+        long processed,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        double throughputPerSecond,
+        String error
+) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
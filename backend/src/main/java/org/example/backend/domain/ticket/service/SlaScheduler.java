@@ -1,8 +1,12 @@
 package org.example.backend.domain.ticket.service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import org.example.backend.domain.ticket.entity.Ticket;
+import java.util.Set;
 import org.example.backend.domain.ticket.enums.TicketSlaFlag;
 import org.example.backend.domain.ticket.enums.TicketStatus;
 import org.example.backend.domain.ticket.repository.TicketRepository;
@@ -18,63 +22,130 @@ public class SlaScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(SlaScheduler.class);
 
+    private static final List<TicketStatus> ACTIVE_STATUSES = List.of(
+            TicketStatus.NEW,
+            TicketStatus.IN_PROGRESS,
+            TicketStatus.REOPENED,
+            TicketStatus.RESOLVED
+    );
+
+    private static final int UPDATE_BATCH_SIZE = 1000;
+
     private final TicketRepository ticketRepository;
-    private final TicketService ticketService;
-    private final SlaService slaService;
+    private final TicketAutoCloseJob ticketAutoCloseJob;
+    private final SlaSnapshot slaSnapshot;
+    private final TicketOutbox ticketOutbox;
     private final int autoCloseDays;
+    private final boolean snapshotEnabled;
 
     public SlaScheduler(
             TicketRepository ticketRepository,
-            TicketService ticketService,
-            SlaService slaService,
-            @Value("${app.sla.autoclose.days:7}") int autoCloseDays
+            TicketAutoCloseJob ticketAutoCloseJob,
+            SlaSnapshot slaSnapshot,
+            TicketOutbox ticketOutbox,
+            @Value("${app.sla.autoclose.days:7}") int autoCloseDays,
+            @Value("${app.sla.snapshot.enabled:true}") boolean snapshotEnabled
     ) {
         this.ticketRepository = ticketRepository;
-        this.ticketService = ticketService;
-        this.slaService = slaService;
+        this.ticketAutoCloseJob = ticketAutoCloseJob;
+        this.slaSnapshot = slaSnapshot;
+        this.ticketOutbox = ticketOutbox;
         this.autoCloseDays = autoCloseDays;
+        this.snapshotEnabled = snapshotEnabled;
     }
 
     @Scheduled(fixedRate = 15 * 60 * 1000)
     @Transactional
     public void runSlaChecker() {
-        List<TicketStatus> statuses = List.of(
-                TicketStatus.NEW,
-                TicketStatus.IN_PROGRESS,
-                TicketStatus.ON_HOLD,
-                TicketStatus.REOPENED,
-                TicketStatus.RESOLVED
-        );
-        List<Ticket> tickets = ticketRepository.findByStatusIn(statuses);
-        LocalDateTime now = LocalDateTime.now();
-        int updated = 0;
-        int near = 0;
-        int breached = 0;
-
-        for (Ticket ticket : tickets) {
-            TicketSlaFlag newFlag = slaService.evaluateFlag(ticket, now);
-            if (newFlag != ticket.getSlaFlag()) {
-                ticket.setSlaFlag(newFlag);
-                ticketRepository.save(ticket);
-                updated++;
-                if (newFlag == TicketSlaFlag.NEAR) {
-                    near++;
-                } else if (newFlag == TicketSlaFlag.BREACHED) {
-                    breached++;
-                }
-            }
+        // Stored updated_at keeps microseconds; the snapshot sweep finds its own writes by this value
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (snapshotEnabled && slaSnapshot.isLoaded()) {
+            sweepSnapshot(now);
+        } else {
+            sweepDatabase(now);
+        }
+    }
+
+    private void sweepSnapshot(LocalDateTime now) {
+        long startedNanos = System.nanoTime();
+        SlaSnapshot.SweepResult result = slaSnapshot.sweep(now);
+        long sweepMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+
+        List<Long> breachedIds = new ArrayList<>();
+        List<Long> nearIds = new ArrayList<>();
+        List<Long> staleIds = new ArrayList<>();
+        for (List<Long> ids : partition(Arrays.stream(result.breached()).boxed().toList())) {
+            int updated = ticketRepository.markSlaBreachedByIds(ids, ACTIVE_STATUSES, TicketSlaFlag.BREACHED, now);
+            collectChanged(ids, updated, TicketSlaFlag.BREACHED, now, breachedIds, staleIds);
         }
+        for (List<Long> ids : partition(Arrays.stream(result.near()).boxed().toList())) {
+            int updated = ticketRepository.markSlaNearByIds(ids, ACTIVE_STATUSES, TicketSlaFlag.OK, TicketSlaFlag.NEAR, now);
+            collectChanged(ids, updated, TicketSlaFlag.NEAR, now, nearIds, staleIds);
+        }
+        slaSnapshot.markBreached(breachedIds);
+        slaSnapshot.markNear(nearIds);
+        if (!staleIds.isEmpty()) {
+            slaSnapshot.refresh(staleIds, ticketRepository.findSlaSnapshotRowsByIds(staleIds, ACTIVE_STATUSES));
+        }
+        // The snapshot does not know reporters, so these reach agents and admins only
+        List<TicketEvent> events = new ArrayList<>(breachedIds.size() + nearIds.size());
+        breachedIds.forEach(id -> events.add(TicketEvent.slaFlagChanged(id, null, TicketSlaFlag.BREACHED)));
+        nearIds.forEach(id -> events.add(TicketEvent.slaFlagChanged(id, null, TicketSlaFlag.NEAR)));
+        ticketOutbox.appendAll(events);
+
+        int updated = nearIds.size() + breachedIds.size();
+        if (updated > 0 || !staleIds.isEmpty()) {
+            log.info("[SLA-CHECK] updated={} (near={}, breached={}) stale={} swept={} in {}ms",
+                    updated, nearIds.size(), breachedIds.size(), staleIds.size(), slaSnapshot.size(), sweepMillis);
+        }
+    }
 
+    /**
+     * Splits a swept batch into the rows the bulk update changed and the rows it skipped because the
+     * snapshot was behind the database (status, flag or deadlines changed by a write it has not seen yet).
+     */
+    private void collectChanged(
+            List<Long> ids,
+            int updated,
+            TicketSlaFlag flag,
+            LocalDateTime now,
+            List<Long> changed,
+            List<Long> stale
+    ) {
+        if (updated == ids.size()) {
+            changed.addAll(ids);
+            return;
+        }
+        Set<Long> touched = new HashSet<>(ticketRepository.findIdsBySlaFlagAndUpdatedAt(ids, flag, now));
+        for (Long id : ids) {
+            (touched.contains(id) ? changed : stale).add(id);
+        }
+    }
+
+    private void sweepDatabase(LocalDateTime now) {
+        // BREACHED first so that tickets past their deadline are no longer OK when NEAR is applied.
+        int breached = ticketRepository.markSlaBreached(ACTIVE_STATUSES, TicketSlaFlag.BREACHED, now);
+        int near = ticketRepository.markSlaNear(ACTIVE_STATUSES, TicketSlaFlag.OK, TicketSlaFlag.NEAR, now);
+
+        int updated = near + breached;
         if (updated > 0) {
+            ticketOutbox.append(TicketEvent.resync());
             log.info("[SLA-CHECK] updated={} (near={}, breached={})", updated, near, breached);
         }
     }
 
+    private static List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += UPDATE_BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(ids.size(), from + UPDATE_BATCH_SIZE)));
+        }
+        return batches;
+    }
+
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
     public void runAutoClose() {
         LocalDateTime threshold = LocalDateTime.now().minusDays(autoCloseDays);
-        int closed = ticketService.autoCloseResolvedTickets(threshold, "Auto closed by system");
+        int closed = ticketAutoCloseJob.run(threshold, "Auto closed by system");
         if (closed > 0) {
             log.info("[SLA-AUTO-CLOSE] closed {} tickets (threshold={} days)", closed, autoCloseDays);
         }
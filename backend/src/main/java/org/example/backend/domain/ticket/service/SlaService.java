@@ -2,34 +2,29 @@ package org.example.backend.domain.ticket.service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.EnumMap;
-import java.util.Map;
+import org.example.backend.domain.department.entity.Department;
 import org.example.backend.domain.ticket.entity.Ticket;
-import org.example.backend.domain.ticket.enums.TicketPriority;
 import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.user.entity.User;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SlaService {
 
-    private static final Map<TicketPriority, Duration> RESPONSE_DEADLINES = new EnumMap<>(TicketPriority.class);
-    private static final Map<TicketPriority, Duration> RESOLUTION_DEADLINES = new EnumMap<>(TicketPriority.class);
-    private static final double NEAR_THRESHOLD = 0.8;
-
-    static {
-        // Standard support rules (hours) mapped from SLA document
-        // CRITICAL -> Urgent, HIGH -> High, MEDIUM -> Medium, LOW -> Low, IMPROVEMENT -> Improvement
-        RESPONSE_DEADLINES.put(TicketPriority.CRITICAL, Duration.ofHours(4)); // Urgent response
-        RESPONSE_DEADLINES.put(TicketPriority.HIGH, Duration.ofHours(6)); // High response
-        RESPONSE_DEADLINES.put(TicketPriority.MEDIUM, Duration.ofHours(7)); // Medium response
-        RESPONSE_DEADLINES.put(TicketPriority.LOW, Duration.ofHours(9)); // Low response
-        RESPONSE_DEADLINES.put(TicketPriority.IMPROVEMENT, Duration.ofHours(24)); // Improvement response
-
-        RESOLUTION_DEADLINES.put(TicketPriority.CRITICAL, Duration.ofHours(9)); // Urgent resolution
-        RESOLUTION_DEADLINES.put(TicketPriority.HIGH, Duration.ofHours(18)); // High resolution
-        RESOLUTION_DEADLINES.put(TicketPriority.MEDIUM, Duration.ofHours(26)); // Medium resolution
-        RESOLUTION_DEADLINES.put(TicketPriority.LOW, Duration.ofHours(45)); // Low resolution
-        // IMPROVEMENT has no resolution SLA (optional)
+    /** Deadline passed as a primitive when the ticket has none for that target. */
+    public static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    private static final TicketSlaFlag[] FLAGS = TicketSlaFlag.values();
+    private static final int OK = TicketSlaFlag.OK.ordinal();
+    private static final int NEAR = TicketSlaFlag.NEAR.ordinal();
+    private static final int BREACHED = TicketSlaFlag.BREACHED.ordinal();
+
+    private final SlaCalendars calendars;
+    private final SlaPolicies policies;
+
+    public SlaService(SlaCalendars calendars, SlaPolicies policies) {
+        this.calendars = calendars;
+        this.policies = policies;
     }
 
     public void initializeSla(Ticket ticket, LocalDateTime baseTime) {
@@ -38,55 +33,161 @@ public class SlaService {
     }
 
     public void applyDeadlines(Ticket ticket, LocalDateTime baseTime) {
-        Duration response = RESPONSE_DEADLINES.get(ticket.getPriority());
-        Duration resolution = RESOLUTION_DEADLINES.get(ticket.getPriority());
+        SlaPolicyTable table = policies.current();
+        // Only touch the (lazy) reporter department when some policy or calendar depends on it
+        Department department = table.hasDepartmentRules() || calendars.hasDepartmentCalendars()
+                ? reporterDepartment(ticket)
+                : null;
+        WorkingCalendar calendar = calendars.forDepartment(department);
+        LocalDateTime pausedAt = ticket.getSlaPausedAt();
+        if (pausedAt != null) {
+            // The hold served so far is kept; the new clock starts paused and begins to run on resume
+            if (baseTime.isAfter(pausedAt)) {
+                ticket.setSlaPausedMillis(ticket.getSlaPausedMillis() + Duration.between(pausedAt, baseTime).toMillis());
+            }
+            ticket.setSlaPausedAt(baseTime);
+        }
+        int rule = table.indexOf(ticket.getPriority(), ticket.getCategory(), department);
+
+        // Both thresholds are placed on the working calendar once, so evaluation is plain comparisons
+        ticket.setSlaResponseNearAt(addWorkingTime(calendar, baseTime, table.responseNearMillis(rule)));
+        ticket.setSlaResponseDeadline(addWorkingTime(calendar, baseTime, table.responseMillis(rule)));
+        ticket.setSlaResolutionNearAt(addWorkingTime(calendar, baseTime, table.resolutionNearMillis(rule)));
+        ticket.setSlaResolutionDeadline(addWorkingTime(calendar, baseTime, table.resolutionMillis(rule)));
+        ticket.setSlaFlag(TicketSlaFlag.OK);
+        ticket.setSlaNextCheckAt(nextFlagChangeAt(ticket, baseTime));
+    }
+
+    /**
+     * Stops the SLA clock; the ticket keeps its current flag and gets no further checks until resumed.
+     */
+    public void pauseSla(Ticket ticket, LocalDateTime pausedAt) {
+        if (ticket.getSlaPausedAt() != null) {
+            return;
+        }
+        ticket.setSlaPausedAt(pausedAt);
+        ticket.setSlaNextCheckAt(null);
+    }
 
-        if (response != null) {
-            ticket.setSlaResponseDeadline(baseTime.plus(response));
+    /**
+     * Restarts the SLA clock. Thresholds still ahead when the clock stopped keep the working time they
+     * had left, counted from {@code resumedAt}; thresholds already passed stay where they were.
+     */
+    public void resumeSla(Ticket ticket, LocalDateTime resumedAt) {
+        LocalDateTime pausedAt = ticket.getSlaPausedAt();
+        if (pausedAt == null) {
+            return;
         }
-        if (resolution != null) {
-            ticket.setSlaResolutionDeadline(baseTime.plus(resolution));
+        ticket.setSlaPausedAt(null);
+        if (resumedAt.isAfter(pausedAt)) {
+            WorkingCalendar calendar = calendars.forDepartment(
+                    calendars.hasDepartmentCalendars() ? reporterDepartment(ticket) : null);
+            ticket.setSlaResponseNearAt(shift(calendar, ticket.getSlaResponseNearAt(), pausedAt, resumedAt));
+            ticket.setSlaResponseDeadline(shift(calendar, ticket.getSlaResponseDeadline(), pausedAt, resumedAt));
+            ticket.setSlaResolutionNearAt(shift(calendar, ticket.getSlaResolutionNearAt(), pausedAt, resumedAt));
+            ticket.setSlaResolutionDeadline(shift(calendar, ticket.getSlaResolutionDeadline(), pausedAt, resumedAt));
+            ticket.setSlaPausedMillis(ticket.getSlaPausedMillis() + Duration.between(pausedAt, resumedAt).toMillis());
         }
-        ticket.setSlaFlag(TicketSlaFlag.OK);
+        ticket.setSlaNextCheckAt(nextFlagChangeAt(ticket, resumedAt));
     }
 
     public TicketSlaFlag evaluateFlag(Ticket ticket, LocalDateTime referenceTime) {
-        TicketSlaFlag flag = TicketSlaFlag.OK;
-
-        double responseRatio = SlaTimeCalculator.elapsedRatio(
-                ticket.getSlaResponseDeadline(),
-                RESPONSE_DEADLINES.get(ticket.getPriority()),
-                referenceTime
+        if (referenceTime == null) {
+            return TicketSlaFlag.OK;
+        }
+        LocalDateTime pausedAt = ticket.getSlaPausedAt();
+        if (pausedAt != null && referenceTime.isAfter(pausedAt)) {
+            // A paused clock does not age
+            referenceTime = pausedAt;
+        }
+        return evaluateFlag(
+                toMillis(ticket.getSlaResponseNearAt()),
+                toMillis(ticket.getSlaResponseDeadline()),
+                toMillis(ticket.getSlaResolutionNearAt()),
+                toMillis(ticket.getSlaResolutionDeadline()),
+                SlaTimeCalculator.toEpochMillis(referenceTime)
         );
-        flag = mostCritical(flag, toFlag(responseRatio));
+    }
 
-        double resolutionRatio = SlaTimeCalculator.elapsedRatio(
-                ticket.getSlaResolutionDeadline(),
-                RESOLUTION_DEADLINES.get(ticket.getPriority()),
-                referenceTime
+    /**
+     * Allocation-free variant for sweeps; instants are {@link SlaTimeCalculator#toEpochMillis} values and
+     * a missing threshold is {@link #NO_DEADLINE}.
+     */
+    public TicketSlaFlag evaluateFlag(
+            long responseNearMillis,
+            long responseDeadlineMillis,
+            long resolutionNearMillis,
+            long resolutionDeadlineMillis,
+            long referenceMillis
+    ) {
+        int severity = Math.max(
+                severity(responseNearMillis, responseDeadlineMillis, referenceMillis),
+                severity(resolutionNearMillis, resolutionDeadlineMillis, referenceMillis)
         );
-        flag = mostCritical(flag, toFlag(resolutionRatio));
-
-        return flag;
+        return FLAGS[severity];
     }
 
-    private TicketSlaFlag toFlag(double ratio) {
-        if (ratio >= 1.0) {
-            return TicketSlaFlag.BREACHED;
+    public LocalDateTime nextFlagChangeAt(Ticket ticket, LocalDateTime referenceTime) {
+        if (ticket.getSlaPausedAt() != null) {
+            return null;
         }
-        if (ratio >= NEAR_THRESHOLD) {
-            return TicketSlaFlag.NEAR;
+        TicketSlaFlag current = evaluateFlag(ticket, referenceTime);
+        if (current == TicketSlaFlag.BREACHED) {
+            return null;
         }
-        return TicketSlaFlag.OK;
+
+        LocalDateTime next = null;
+        if (current == TicketSlaFlag.OK) {
+            next = earliestAfter(next, ticket.getSlaResponseNearAt(), referenceTime);
+            next = earliestAfter(next, ticket.getSlaResolutionNearAt(), referenceTime);
+        }
+        next = earliestAfter(next, ticket.getSlaResponseDeadline(), referenceTime);
+        next = earliestAfter(next, ticket.getSlaResolutionDeadline(), referenceTime);
+        return next;
     }
 
-    private TicketSlaFlag mostCritical(TicketSlaFlag current, TicketSlaFlag other) {
-        if (other == TicketSlaFlag.BREACHED) {
-            return TicketSlaFlag.BREACHED;
+    private LocalDateTime earliestAfter(LocalDateTime current, LocalDateTime candidate, LocalDateTime referenceTime) {
+        if (candidate == null || !candidate.isAfter(referenceTime)) {
+            return current;
         }
-        if (other == TicketSlaFlag.NEAR && current == TicketSlaFlag.OK) {
-            return TicketSlaFlag.NEAR;
+        if (current == null || candidate.isBefore(current)) {
+            return candidate;
         }
         return current;
     }
-}
\ No newline at end of file
+
+    private static LocalDateTime addWorkingTime(WorkingCalendar calendar, LocalDateTime baseTime, long millis) {
+        return millis != SlaPolicyTable.NO_TARGET ? calendar.addWorkingTime(baseTime, Duration.ofMillis(millis)) : null;
+    }
+
+    private static LocalDateTime shift(
+            WorkingCalendar calendar,
+            LocalDateTime threshold,
+            LocalDateTime pausedAt,
+            LocalDateTime resumedAt
+    ) {
+        if (threshold == null || !threshold.isAfter(pausedAt)) {
+            return threshold;
+        }
+        return calendar.addWorkingTime(resumedAt, calendar.workingTimeBetween(pausedAt, threshold));
+    }
+
+    private static Department reporterDepartment(Ticket ticket) {
+        User reporter = ticket.getReporter();
+        return reporter != null ? reporter.getDepartment() : null;
+    }
+
+    private static int severity(long nearMillis, long deadlineMillis, long referenceMillis) {
+        if (deadlineMillis != NO_DEADLINE && referenceMillis >= deadlineMillis) {
+            return BREACHED;
+        }
+        if (nearMillis != NO_DEADLINE && referenceMillis >= nearMillis) {
+            return NEAR;
+        }
+        return OK;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? SlaTimeCalculator.toEpochMillis(time) : NO_DEADLINE;
+    }
+}
@@ -0,0 +1,308 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.repository.SlaSnapshotView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Column store of the tickets that can still change SLA flag, so the periodic sweep can classify
+ * them without loading entities. Rows are written after the surrounding transaction commits.
+ */
+@Component
+public class SlaSnapshot {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final SlaService slaService;
+    private final int sweepChunkSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowById = new HashMap<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] responseNear = new long[INITIAL_CAPACITY];
+    private long[] responseDeadlines = new long[INITIAL_CAPACITY];
+    private long[] resolutionNear = new long[INITIAL_CAPACITY];
+    private long[] resolutionDeadlines = new long[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private int size;
+    private volatile boolean loaded;
+
+    public SlaSnapshot(
+            SlaService slaService,
+            @Value("${app.sla.snapshot.sweep-chunk-size:65536}") int sweepChunkSize
+    ) {
+        if (sweepChunkSize <= 0) {
+            throw new IllegalArgumentException("SLA snapshot sweep chunk size must be positive");
+        }
+        this.slaService = slaService;
+        this.sweepChunkSize = sweepChunkSize;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void load(List<SlaSnapshotView> rows) {
+        lock.writeLock().lock();
+        try {
+            for (SlaSnapshotView row : rows) {
+                put(row);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void upsert(Ticket ticket) {
+        long id = ticket.getId();
+        long responseNearAt = toMillis(ticket.getSlaResponseNearAt());
+        long response = toMillis(ticket.getSlaResponseDeadline());
+        long resolutionNearAt = toMillis(ticket.getSlaResolutionNearAt());
+        long resolution = toMillis(ticket.getSlaResolutionDeadline());
+        int flag = flagOrdinal(ticket.getSlaFlag());
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                put(id, responseNearAt, response, resolutionNearAt, resolution, flag);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    void remove(Long ticketId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(ticketId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Replaces the rows of {@code ticketIds} with their current database state; ids without a row in
+     * {@code rows} are no longer tracked and leave the snapshot.
+     */
+    void refresh(List<Long> ticketIds, List<SlaSnapshotView> rows) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                ticketIds.forEach(this::delete);
+                rows.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    void markNear(List<Long> ticketIds) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                for (Long ticketId : ticketIds) {
+                    Integer row = rowById.get(ticketId);
+                    if (row != null) {
+                        flags[row] = (byte) TicketSlaFlag.NEAR.ordinal();
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    void markBreached(List<Long> ticketIds) {
+        // BREACHED is final until the deadlines are reset, so the row leaves the snapshot
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                ticketIds.forEach(this::delete);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Classifies every row against {@code referenceTime} in parallel chunks and returns the ids whose
+     * flag would change, grouped by the new flag.
+     */
+    SweepResult sweep(LocalDateTime referenceTime) {
+        long now = SlaTimeCalculator.toEpochMillis(referenceTime);
+        lock.readLock().lock();
+        try {
+            int rows = size;
+            int chunks = (rows + sweepChunkSize - 1) / sweepChunkSize;
+            List<SweepResult> partials = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> sweepChunk(
+                            chunk * sweepChunkSize,
+                            Math.min(rows, (chunk + 1) * sweepChunkSize),
+                            now
+                    ))
+                    .toList();
+            return SweepResult.merge(partials);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SweepResult sweepChunk(int from, int to, long now) {
+        LongBuffer near = new LongBuffer();
+        LongBuffer breached = new LongBuffer();
+        for (int row = from; row < to; row++) {
+            int flag = slaService.evaluateFlag(responseNear[row], responseDeadlines[row],
+                    resolutionNear[row], resolutionDeadlines[row], now).ordinal();
+            if (flag <= flags[row]) {
+                continue;
+            }
+            if (flag == TicketSlaFlag.BREACHED.ordinal()) {
+                breached.add(ids[row]);
+            } else {
+                near.add(ids[row]);
+            }
+        }
+        return new SweepResult(near.toArray(), breached.toArray());
+    }
+
+    private void put(SlaSnapshotView row) {
+        put(row.getId(),
+                toMillis(row.getSlaResponseNearAt()), toMillis(row.getSlaResponseDeadline()),
+                toMillis(row.getSlaResolutionNearAt()), toMillis(row.getSlaResolutionDeadline()),
+                flagOrdinal(row.getSlaFlag()));
+    }
+
+    private void put(
+            long id,
+            long responseNearAt,
+            long response,
+            long resolutionNearAt,
+            long resolution,
+            int flag
+    ) {
+        Integer row = rowById.get(id);
+        if (row == null) {
+            ensureCapacity(size + 1);
+            row = size++;
+            rowById.put(id, row);
+        }
+        ids[row] = id;
+        responseNear[row] = responseNearAt;
+        responseDeadlines[row] = response;
+        resolutionNear[row] = resolutionNearAt;
+        resolutionDeadlines[row] = resolution;
+        flags[row] = (byte) flag;
+    }
+
+    private void delete(Long id) {
+        Integer row = rowById.remove(id);
+        if (row == null) {
+            return;
+        }
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            responseNear[row] = responseNear[last];
+            responseDeadlines[row] = responseDeadlines[last];
+            resolutionNear[row] = resolutionNear[last];
+            resolutionDeadlines[row] = resolutionDeadlines[last];
+            flags[row] = flags[last];
+            rowById.put(ids[row], row);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        responseNear = Arrays.copyOf(responseNear, capacity);
+        responseDeadlines = Arrays.copyOf(responseDeadlines, capacity);
+        resolutionNear = Arrays.copyOf(resolutionNear, capacity);
+        resolutionDeadlines = Arrays.copyOf(resolutionDeadlines, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? SlaTimeCalculator.toEpochMillis(time) : SlaService.NO_DEADLINE;
+    }
+
+    private static int flagOrdinal(TicketSlaFlag flag) {
+        return (flag != null ? flag : TicketSlaFlag.OK).ordinal();
+    }
+
+    record SweepResult(long[] near, long[] breached) {
+
+        static SweepResult merge(List<SweepResult> partials) {
+            LongBuffer near = new LongBuffer();
+            LongBuffer breached = new LongBuffer();
+            for (SweepResult partial : partials) {
+                near.addAll(partial.near());
+                breached.addAll(partial.breached());
+            }
+            return new SweepResult(near.toArray(), breached.toArray());
+        }
+    }
+
+    private static final class LongBuffer {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(long[] other) {
+            if (size + other.length > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.length, values.length * 2));
+            }
+            System.arraycopy(other, 0, values, size, other.length);
+            size += other.length;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -2,24 +2,39 @@ package org.example.backend.domain.ticket.service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 final class SlaTimeCalculator {
 
     private SlaTimeCalculator() {
     }
 
-    static double elapsedRatio(LocalDateTime deadline, Duration duration, LocalDateTime referenceTime) {
-        if (deadline == null || duration == null || referenceTime == null) {
-            return 0.0;
+    static long toEpochMillis(LocalDateTime time) {
+        // Deadlines are wall-clock values; only differences matter, so read them on a fixed offset
+        return time.toEpochSecond(ZoneOffset.UTC) * 1000 + time.getNano() / 1_000_000;
+    }
+
+    static LocalDateTime fromEpochMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(millis, 1000),
+                (int) Math.floorMod(millis, 1000) * 1_000_000,
+                ZoneOffset.UTC
+        );
+    }
+
+    static Duration thresholdOffset(Duration duration, double ratio) {
+        if (duration == null || duration.isZero() || duration.isNegative()) {
+            return null;
         }
-        if (duration.isZero() || duration.isNegative()) {
-            return 0.0;
+        // Smallest whole millisecond whose share of the duration reaches the threshold
+        long millis = duration.toMillis();
+        long offsetMillis = (long) Math.ceil(millis * ratio);
+        while (offsetMillis > 0 && (double) (offsetMillis - 1) / millis >= ratio) {
+            offsetMillis--;
         }
-        LocalDateTime start = deadline.minus(duration);
-        if (!referenceTime.isAfter(start)) {
-            return 0.0;
+        while ((double) offsetMillis / millis < ratio) {
+            offsetMillis++;
         }
-        Duration elapsed = Duration.between(start, referenceTime);
-        return (double) elapsed.toMillis() / (double) duration.toMillis();
+        return Duration.ofMillis(offsetMillis);
     }
-}
\ No newline at end of file
+}
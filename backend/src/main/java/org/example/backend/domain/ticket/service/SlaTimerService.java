@@ -0,0 +1,185 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.ticket.repository.SlaTimerView;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class SlaTimerService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaTimerService.class);
+
+    static final Set<TicketStatus> TRACKED_STATUSES = Collections.unmodifiableSet(EnumSet.of(
+            TicketStatus.NEW,
+            TicketStatus.IN_PROGRESS,
+            TicketStatus.REOPENED,
+            TicketStatus.RESOLVED
+    ));
+
+    private final TicketRepository ticketRepository;
+    private final SlaService slaService;
+    private final SlaSnapshot slaSnapshot;
+    private final TicketOutbox ticketOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final SlaTimerWheel wheel;
+    // Not a monitor: callers may run on virtual threads, which a contended monitor would pin
+    private final ReentrantLock wheelLock = new ReentrantLock();
+
+    public SlaTimerService(
+            TicketRepository ticketRepository,
+            SlaService slaService,
+            SlaSnapshot slaSnapshot,
+            TicketOutbox ticketOutbox,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.sla.timer.tick-ms:100}") long tickMillis
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.slaService = slaService;
+        this.slaSnapshot = slaSnapshot;
+        this.ticketOutbox = ticketOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wheel = new SlaTimerWheel(tickMillis, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<SlaTimerView> timers = ticketRepository.findSlaTimers(TRACKED_STATUSES);
+        wheelLock.lock();
+        try {
+            for (SlaTimerView timer : timers) {
+                wheel.schedule(timer.getId(), toEpochMillis(timer.getSlaNextCheckAt()));
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+        log.info("[SLA-TIMER] warmed up with {} pending timers", timers.size());
+
+        slaSnapshot.load(ticketRepository.findSlaSnapshotRows(TRACKED_STATUSES));
+        log.info("[SLA-TIMER] SLA snapshot loaded with {} tickets", slaSnapshot.size());
+    }
+
+    /**
+     * Schedules the ticket's next SLA check, or cancels it when there is none. Like the snapshot,
+     * the wheel only changes once the caller's transaction commits, so a rollback leaves no timer
+     * behind and a timer never fires before its write is visible.
+     */
+    public void track(Ticket ticket) {
+        if (ticket.getId() == null) {
+            return;
+        }
+        if (ticket.getSlaNextCheckAt() == null || !TRACKED_STATUSES.contains(ticket.getStatus())) {
+            cancel(ticket.getId());
+            return;
+        }
+        long ticketId = ticket.getId();
+        long nextCheckAt = toEpochMillis(ticket.getSlaNextCheckAt());
+        afterCommit(() -> {
+            wheelLock.lock();
+            try {
+                wheel.schedule(ticketId, nextCheckAt);
+            } finally {
+                wheelLock.unlock();
+            }
+        });
+        slaSnapshot.upsert(ticket);
+    }
+
+    public void cancel(Long ticketId) {
+        afterCommit(() -> {
+            wheelLock.lock();
+            try {
+                wheel.cancel(ticketId);
+            } finally {
+                wheelLock.unlock();
+            }
+        });
+        slaSnapshot.remove(ticketId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.sla.timer.tick-ms:100}")
+    public void fireDueTimers() {
+        List<Long> due;
+        wheelLock.lock();
+        try {
+            due = wheel.advance(System.currentTimeMillis());
+        } finally {
+            wheelLock.unlock();
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> applyTransitions(due));
+    }
+
+    private void applyTransitions(List<Long> ticketIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int near = 0;
+        int breached = 0;
+
+        for (Ticket ticket : ticketRepository.findAllById(ticketIds)) {
+            LocalDateTime nextCheck = ticket.getSlaNextCheckAt();
+            if (nextCheck == null || !TRACKED_STATUSES.contains(ticket.getStatus())) {
+                continue;
+            }
+            // The row may have been rescheduled by another node or the periodic sweep
+            if (nextCheck.isAfter(now)) {
+                track(ticket);
+                continue;
+            }
+
+            TicketSlaFlag newFlag = slaService.evaluateFlag(ticket, now);
+            ticket.setSlaNextCheckAt(slaService.nextFlagChangeAt(ticket, now));
+            if (newFlag != ticket.getSlaFlag()) {
+                ticket.setSlaFlag(newFlag);
+                ticketOutbox.append(TicketEvent.slaFlagChanged(ticket.getId(), ticket.getReporter().getId(), newFlag));
+                if (newFlag == TicketSlaFlag.NEAR) {
+                    near++;
+                } else if (newFlag == TicketSlaFlag.BREACHED) {
+                    breached++;
+                }
+            }
+            track(ticket);
+        }
+
+        if (near + breached > 0) {
+            log.info("[SLA-TIMER] updated={} (near={}, breached={})", near + breached, near, breached);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel keyed by ticket id. Level {@code n} slots span {@code 64^n} ticks, so
+ * scheduling and cancelling are O(1) and advancing only touches the slots whose time has come.
+ * Not thread-safe; callers serialize access.
+ */
+final class SlaTimerWheel {
+
+    private static final int LEVELS = 5;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final Timer[][] heads = new Timer[LEVELS][SLOTS];
+    private final Map<Long, Timer> timers = new HashMap<>();
+    private long currentTick;
+
+    SlaTimerWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    void schedule(long ticketId, long expirationMillis) {
+        Timer timer = timers.get(ticketId);
+        if (timer == null) {
+            timer = new Timer(ticketId);
+            timers.put(ticketId, timer);
+        } else {
+            unlink(timer);
+        }
+        // Already-due timers fire on the next tick rather than being dropped
+        timer.expirationTick = Math.max(Math.ceilDiv(expirationMillis, tickMillis), currentTick + 1);
+        place(timer);
+    }
+
+    void cancel(long ticketId) {
+        Timer timer = timers.remove(ticketId);
+        if (timer != null) {
+            unlink(timer);
+        }
+    }
+
+    List<Long> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<Long> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Cascade coarser levels first so their timers can still land in this tick's level-0 slot
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, slotIndex(currentTick, level));
+                }
+            }
+            Timer timer = heads[0][slotIndex(currentTick, 0)];
+            heads[0][slotIndex(currentTick, 0)] = null;
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                timer.level = -1;
+                timers.remove(timer.ticketId);
+                expired.add(timer.ticketId);
+                timer = next;
+            }
+        }
+        return expired;
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    private void cascade(int level, int slot) {
+        Timer timer = heads[level][slot];
+        heads[level][slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            timer.level = -1;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    private void place(Timer timer) {
+        long expiration = timer.expirationTick;
+        int level = 0;
+        while (level < LEVELS - 1
+                && (expiration >>> (SLOT_BITS * (level + 1))) != (currentTick >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = slotIndex(expiration, level);
+        timer.level = level;
+        timer.slot = slot;
+        timer.next = heads[level][slot];
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        heads[level][slot] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.level < 0) {
+            return;
+        }
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            heads[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.level = -1;
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static final class Timer {
+
+        private final long ticketId;
+        private long expirationTick;
+        private int level = -1;
+        private int slot;
+        private Timer prev;
+        private Timer next;
+
+        private Timer(long ticketId) {
+            this.ticketId = ticketId;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.backend.domain.ticket.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class TicketAutoCloseJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketAutoCloseJob.class);
+
+    private static final String INSERT_HISTORY_SQL = """
+            insert into ticket_history (ticket_id, from_status, to_status, changed_by, note, created_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final TicketRepository ticketRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SlaTimerService slaTimerService;
+    private final TicketOutbox ticketOutbox;
+    private final int chunkSize;
+
+    public TicketAutoCloseJob(
+            TicketRepository ticketRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            SlaTimerService slaTimerService,
+            TicketOutbox ticketOutbox,
+            @Value("${app.sla.autoclose.chunk-size:500}") int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Auto-close chunk size must be positive");
+        }
+        this.ticketRepository = ticketRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.slaTimerService = slaTimerService;
+        this.ticketOutbox = ticketOutbox;
+        this.chunkSize = chunkSize;
+    }
+
+    // Every chunk commits on its own, and closed tickets no longer match the candidate query,
+    // so a run interrupted midway is resumed by the next one without redoing any work.
+    public int run(LocalDateTime threshold, String note) {
+        long startedNanos = System.nanoTime();
+
+        long afterId = 0;
+        int total = 0;
+        int chunks = 0;
+        while (true) {
+            long cursor = afterId;
+            ChunkResult chunk = transactionTemplate.execute(status -> closeChunk(threshold, note, cursor));
+            if (chunk == null || chunk.scanned() == 0) {
+                break;
+            }
+            afterId = chunk.lastTicketId();
+            total += chunk.closed();
+            chunks++;
+
+            double seconds = Math.max((System.nanoTime() - startedNanos) / 1_000_000_000.0, 0.001);
+            log.info(
+                    "[SLA-AUTO-CLOSE] chunk={} closed={} total={} lastTicketId={} rate={}/s",
+                    chunks, chunk.closed(), total, afterId, Math.round(total / seconds)
+            );
+
+            if (chunk.scanned() < chunkSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            ticketOutbox.append(TicketEvent.resync());
+        }
+        return total;
+    }
+
+    private ChunkResult closeChunk(LocalDateTime threshold, String note, long afterId) {
+        List<Object[]> candidates = ticketRepository.lockAutoCloseCandidates(
+                TicketStatus.RESOLVED.name(),
+                threshold,
+                afterId,
+                chunkSize
+        );
+        if (candidates.isEmpty()) {
+            return new ChunkResult(0, 0, afterId);
+        }
+
+        List<Long> ids = new ArrayList<>(candidates.size());
+        List<Object[]> historyRows = new ArrayList<>(candidates.size());
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        for (Object[] candidate : candidates) {
+            long ticketId = ((Number) candidate[0]).longValue();
+            long actorId = ((Number) candidate[1]).longValue();
+            ids.add(ticketId);
+            historyRows.add(new Object[] {
+                    ticketId,
+                    TicketStatus.RESOLVED.name(),
+                    TicketStatus.CLOSED.name(),
+                    actorId,
+                    note,
+                    createdAt
+            });
+        }
+
+        int closed = ticketRepository.closeResolved(
+                ids,
+                TicketStatus.RESOLVED,
+                TicketStatus.CLOSED,
+                TicketSlaFlag.OK,
+                now
+        );
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+        ids.forEach(slaTimerService::cancel);
+
+        return new ChunkResult(candidates.size(), closed, ids.get(ids.size() - 1));
+    }
+
+    private record ChunkResult(int scanned, int closed, long lastTicketId) {
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.List;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.entity.TicketComment;
+import org.example.backend.domain.ticket.entity.TicketHistory;
+
+/**
+ * What changed on a ticket since a sync cursor. {@code ticket} is null when its own fields did not
+ * change; {@code cursor} is what the client sends next time.
+ */
+public record TicketChanges(
+        Ticket ticket,
+        List<TicketComment> comments,
+        List<TicketHistory> history,
+        String cursor
+) {
+}
@@ -0,0 +1,23 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.List;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.entity.TicketComment;
+import org.example.backend.domain.ticket.entity.TicketHistory;
+
+/**
+ * A ticket with the latest window of its comments and history, oldest first. The cursors page
+ * further back through the comment and history scroll endpoints and are null once everything is here.
+ */
+public record TicketDetails(
+        Ticket ticket,
+        List<TicketComment> comments,
+        List<TicketHistory> history,
+        String olderCommentsCursor,
+        String olderHistoryCursor
+) {
+
+    public TicketDetails(Ticket ticket, List<TicketComment> comments, List<TicketHistory> history) {
+        this(ticket, comments, history, null, null);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.LocalDateTime;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.entity.TicketComment;
+import org.example.backend.domain.ticket.enums.TicketEventType;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+
+/**
+ * Change to a ticket as pushed to subscribers. Fields a given event does not carry are null;
+ * {@code reporterId} drives visibility and is null when the reporter is not known to the producer.
+ */
+public record TicketEvent(
+        TicketEventType type,
+        Long ticketId,
+        Long reporterId,
+        String ticketNumber,
+        TicketStatus status,
+        TicketPriority priority,
+        TicketSlaFlag slaFlag,
+        Long assigneeId,
+        Long commentId,
+        boolean internal,
+        LocalDateTime occurredAt
+) {
+
+    public static TicketEvent of(TicketEventType type, Ticket ticket) {
+        return new TicketEvent(
+                type,
+                ticket.getId(),
+                ticket.getReporter() != null ? ticket.getReporter().getId() : null,
+                ticket.getTicketNumber(),
+                ticket.getStatus(),
+                ticket.getPriority(),
+                ticket.getSlaFlag(),
+                ticket.getAssignee() != null ? ticket.getAssignee().getId() : null,
+                null,
+                false,
+                LocalDateTime.now()
+        );
+    }
+
+    public static TicketEvent commentAdded(TicketComment comment) {
+        Ticket ticket = comment.getTicket();
+        return new TicketEvent(
+                TicketEventType.COMMENT_ADDED,
+                ticket.getId(),
+                ticket.getReporter() != null ? ticket.getReporter().getId() : null,
+                ticket.getTicketNumber(),
+                null,
+                null,
+                null,
+                null,
+                comment.getId(),
+                comment.isInternal(),
+                LocalDateTime.now()
+        );
+    }
+
+    public static TicketEvent slaFlagChanged(Long ticketId, Long reporterId, TicketSlaFlag slaFlag) {
+        return new TicketEvent(TicketEventType.SLA_FLAG_CHANGED, ticketId, reporterId, null, null, null,
+                slaFlag, null, null, false, LocalDateTime.now());
+    }
+
+    /**
+     * Tells a subscriber that it missed events and should reload what it shows.
+     */
+    public static TicketEvent resync() {
+        return new TicketEvent(TicketEventType.RESYNC, null, null, null, null, null,
+                null, null, null, false, LocalDateTime.now());
+    }
+}
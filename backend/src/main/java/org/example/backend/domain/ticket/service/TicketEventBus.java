@@ -0,0 +1,151 @@
+package org.example.backend.domain.ticket.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.example.backend.domain.auth.service.AuthUserDetails;
+import org.example.backend.domain.ticket.enums.TicketEventType;
+import org.example.backend.domain.user.enums.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process fan-out of committed ticket events, fed by the outbox relay, to streaming clients.
+ * Every subscriber has a bounded buffer drained by its own delivery task, so a slow client never
+ * blocks the relay or other clients; a subscriber that falls a full buffer behind loses its
+ * backlog and is sent a single {@link TicketEventType#RESYNC} instead.
+ */
+@Component
+public class TicketEventBus implements TicketEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketEventBus.class);
+
+    private final int bufferSize;
+    private final Executor deliveryExecutor;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    // Boot's task executor runs on virtual threads exactly when spring.threads.virtual.enabled is set
+    public TicketEventBus(
+            @Value("${app.ticket.events.buffer-size:256}") int bufferSize,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor deliveryExecutor
+    ) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Ticket event buffer size must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    public Subscription subscribe(AuthUserDetails viewer, Delivery delivery) {
+        Subscription subscription = new Subscription(viewer, delivery);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public void accept(List<TicketEvent> events) {
+        events.forEach(this::dispatch);
+    }
+
+    void dispatch(TicketEvent event) {
+        for (Subscription subscription : subscriptions) {
+            if (isVisible(event, subscription.viewer)) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.forEach(Subscription::close);
+    }
+
+    /**
+     * Same rules as ticket reads: end users only see their own tickets and never internal comments.
+     */
+    static boolean isVisible(TicketEvent event, AuthUserDetails viewer) {
+        if (event.type() == TicketEventType.RESYNC || viewer.getRole() != UserRole.END_USER) {
+            return true;
+        }
+        return !event.internal() && viewer.getId().equals(event.reporterId());
+    }
+
+    @FunctionalInterface
+    public interface Delivery {
+
+        void deliver(TicketEvent event) throws IOException;
+    }
+
+    public final class Subscription {
+
+        private final AuthUserDetails viewer;
+        private final Delivery delivery;
+        private final ArrayBlockingQueue<TicketEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(AuthUserDetails viewer, Delivery delivery) {
+            this.viewer = viewer;
+            this.delivery = delivery;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+            buffer.clear();
+        }
+
+        private void offer(TicketEvent event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                buffer.clear();
+                buffer.offer(TicketEvent.resync());
+                log.debug("[TICKET-EVENTS] subscriber {} overflowed, sent resync", viewer.getUsername());
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                TicketEvent event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    delivery.deliver(event);
+                }
+            } catch (IOException | RuntimeException ex) {
+                // The client went away; the stream is finished from our side too
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // Pick up events offered between the last poll and releasing the flag
+            if (!closed && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.List;
+
+/**
+ * Receives committed ticket events from {@link TicketOutboxRelay}, in batches and in outbox order.
+ * Delivery is at least once: a batch a sink rejects is delivered again one event at a time, and an
+ * event that keeps failing is retried on later polls, so a sink may see an event twice or after
+ * newer ones.
+ */
+public interface TicketEventSink {
+
+    void accept(List<TicketEvent> events);
+}
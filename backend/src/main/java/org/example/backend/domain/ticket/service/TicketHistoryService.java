@@ -1,10 +1,13 @@
 package org.example.backend.domain.ticket.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import org.example.backend.domain.ticket.entity.Ticket;
 import org.example.backend.domain.ticket.entity.TicketHistory;
 import org.example.backend.domain.ticket.enums.TicketStatus;
 import org.example.backend.domain.ticket.repository.TicketHistoryRepository;
 import org.example.backend.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,4 +25,22 @@ public class TicketHistoryService {
         TicketHistory history = new TicketHistory(ticket, from, to, actor, note);
         ticketHistoryRepository.save(history);
     }
+
+    @Transactional(readOnly = true)
+    public List<TicketHistory> findHistoryAfter(Long ticketId, long afterId) {
+        return ticketHistoryRepository.findByTicketIdAndIdGreaterThanOrderByIdAsc(ticketId, afterId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TicketHistory> findLatestHistory(Long ticketId, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        PageRequest window = PageRequest.of(0, limit);
+        return beforeId == null
+                ? ticketHistoryRepository.findLatest(ticketId, window)
+                : ticketHistoryRepository.findLatestBefore(ticketId, beforeCreatedAt, beforeId, window);
+    }
+
+    @Transactional(readOnly = true)
+    public long countHistory(Long ticketId) {
+        return ticketHistoryRepository.countByTicketId(ticketId);
+    }
 }
@@ -1,42 +1,132 @@
 package org.example.backend.domain.ticket.service;
 
 import java.time.Year;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import org.example.backend.domain.ticket.entity.TicketNumberSequence;
+import org.example.backend.domain.ticket.repository.TicketNumberSequenceRepository;
 import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 public class TicketNumberGenerator {
 
-    private static final String FORMAT = "ITSM-%d-%04d";
+    private static final String PREFIX = "ITSM-%d-";
+    private static final String FORMAT = PREFIX + "%04d";
 
+    private final TicketNumberSequenceRepository sequenceRepository;
     private final TicketRepository ticketRepository;
-    private final AtomicInteger sequence = new AtomicInteger(0);
-    private int cachedYear = Year.now().getValue();
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final AtomicReference<Block> block = new AtomicReference<>();
+    private final ReentrantLock refillLock = new ReentrantLock();
 
-    public TicketNumberGenerator(TicketRepository ticketRepository) {
+    public TicketNumberGenerator(
+            TicketNumberSequenceRepository sequenceRepository,
+            TicketRepository ticketRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.ticket.number.block-size:100}") int blockSize
+    ) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Ticket number block size must be positive");
+        }
+        this.sequenceRepository = sequenceRepository;
         this.ticketRepository = ticketRepository;
+        // Reservations commit on their own so the sequence row lock is never held for a whole request.
+        // Callers draw numbers before opening their own transaction; inside one, this takes a second connection.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
     }
 
-    public synchronized String nextTicketNumber() {
+    public String nextTicketNumber() {
         int year = Year.now().getValue();
-        if (year != cachedYear) {
-            cachedYear = year;
-            sequence.set(0);
+        while (true) {
+            Block current = block.get();
+            if (current != null && current.year == year) {
+                long value = current.claim();
+                if (value >= 0) {
+                    return FORMAT.formatted(year, value);
+                }
+            }
+            refill(current, year);
+        }
+    }
+
+    private void refill(Block exhausted, int year) {
+        refillLock.lock();
+        try {
+            // Another thread may have swapped in a fresh block while this one waited
+            if (block.get() == exhausted) {
+                block.set(reserveBlock(year));
+            }
+        } finally {
+            refillLock.unlock();
         }
+    }
+
+    private Block reserveBlock(int year) {
+        try {
+            return transactionTemplate.execute(status -> reserveInTransaction(year));
+        } catch (DataIntegrityViolationException ex) {
+            // Another node created this year's sequence row first; it is now there to lock
+            return transactionTemplate.execute(status -> reserveInTransaction(year));
+        }
+    }
 
-        String candidate;
-        int attempt = 0;
-        do {
-            int value = sequence.incrementAndGet();
-            candidate = FORMAT.formatted(year, value);
-            attempt++;
-        } while (ticketRepository.existsByTicketNumber(candidate) && attempt < 10_000);
+    private Block reserveInTransaction(int year) {
+        TicketNumberSequence sequence = sequenceRepository.findForUpdate(year)
+                .orElseGet(() -> sequenceRepository.saveAndFlush(
+                        new TicketNumberSequence(year, highestAllocated(year) + 1)
+                ));
+        long start = sequence.getNextValue();
+        sequence.setNextValue(start + blockSize);
+        return new Block(year, start, start + blockSize);
+    }
 
-        if (ticketRepository.existsByTicketNumber(candidate)) {
+    private long highestAllocated(int year) {
+        String prefix = PREFIX.formatted(year);
+        List<String> numbers = ticketRepository.findHighestTicketNumbers(prefix + "%", PageRequest.of(0, 1));
+        if (numbers.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(numbers.get(0).substring(prefix.length()));
+        } catch (NumberFormatException ex) {
             throw new IllegalStateException("Could not generate unique ticket number.");
         }
+    }
+
+    private static final class Block {
+
+        private final int year;
+        private final long end;
+        private final AtomicLong cursor;
+
+        private Block(int year, long start, long end) {
+            this.year = year;
+            this.end = end;
+            this.cursor = new AtomicLong(start);
+        }
 
-        return candidate;
+        private long claim() {
+            while (true) {
+                long value = cursor.get();
+                if (value >= end) {
+                    return -1;
+                }
+                if (cursor.compareAndSet(value, value + 1)) {
+                    return value;
+                }
+            }
+        }
     }
 }
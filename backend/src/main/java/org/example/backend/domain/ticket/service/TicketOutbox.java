@@ -0,0 +1,62 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.Collection;
+import org.example.backend.domain.ticket.entity.TicketOutboxEntry;
+import org.example.backend.domain.ticket.repository.TicketOutboxRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records ticket events in the caller's transaction, so an event exists exactly when its change
+ * commits. {@link TicketOutboxRelay} hands them to the {@link TicketEventSink}s afterwards.
+ */
+@Component
+public class TicketOutbox {
+
+    private final TicketOutboxRepository ticketOutboxRepository;
+
+    public TicketOutbox(TicketOutboxRepository ticketOutboxRepository) {
+        this.ticketOutboxRepository = ticketOutboxRepository;
+    }
+
+    public void append(TicketEvent event) {
+        ticketOutboxRepository.save(toEntry(event));
+    }
+
+    public void appendAll(Collection<TicketEvent> events) {
+        if (!events.isEmpty()) {
+            ticketOutboxRepository.saveAll(events.stream().map(TicketOutbox::toEntry).toList());
+        }
+    }
+
+    static TicketOutboxEntry toEntry(TicketEvent event) {
+        return new TicketOutboxEntry(
+                event.type(),
+                event.ticketId(),
+                event.reporterId(),
+                event.ticketNumber(),
+                event.status(),
+                event.priority(),
+                event.slaFlag(),
+                event.assigneeId(),
+                event.commentId(),
+                event.internal(),
+                event.occurredAt()
+        );
+    }
+
+    static TicketEvent toEvent(TicketOutboxEntry entry) {
+        return new TicketEvent(
+                entry.getEventType(),
+                entry.getTicketId(),
+                entry.getReporterId(),
+                entry.getTicketNumber(),
+                entry.getStatus(),
+                entry.getPriority(),
+                entry.getSlaFlag(),
+                entry.getAssigneeId(),
+                entry.getCommentId(),
+                entry.isInternal(),
+                entry.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.example.backend.domain.ticket.entity.TicketOutboxEntry;
+import org.example.backend.domain.ticket.repository.TicketOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Feeds the ticket outbox to this node's {@link TicketEventSink}s. Every node reads the outbox with
+ * its own cursor, starting after the newest entry when it boots, so the SSE bus and search index of
+ * each node see every event. Entries are purged by age, not on delivery.
+ * <p>
+ * Ids are drawn before commit, so an entry can appear after a higher id was read. Ids the cursor
+ * skipped are read again until they show up or {@code gap-timeout-ms} passes; a rolled-back insert
+ * leaves a gap forever.
+ * <p>
+ * A sink that throws on a batch gets its events again one at a time. An event it still rejects is
+ * retried on later polls and dropped with an error after {@code max-attempts}, so one bad event or
+ * one broken sink never holds up the others.
+ */
+@Component
+public class TicketOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketOutboxRelay.class);
+
+    private final TicketOutboxRepository ticketOutboxRepository;
+    private final List<SinkFeed> feeds;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long gapTimeoutMs;
+    private final long retentionMinutes;
+
+    // Relay state is only touched by the poll, which never overlaps itself
+    private long cursor = -1;
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    public TicketOutboxRelay(
+            TicketOutboxRepository ticketOutboxRepository,
+            List<TicketEventSink> sinks,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.ticket.outbox.batch-size:500}") int batchSize,
+            @Value("${app.ticket.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${app.ticket.outbox.gap-timeout-ms:60000}") long gapTimeoutMs,
+            @Value("${app.ticket.outbox.retention-minutes:60}") long retentionMinutes
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Outbox batch size must be positive");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Outbox delivery attempts must be positive");
+        }
+        if (gapTimeoutMs < 0 || retentionMinutes * 60_000 <= gapTimeoutMs) {
+            throw new IllegalArgumentException("Outbox retention must outlast the gap timeout");
+        }
+        this.ticketOutboxRepository = ticketOutboxRepository;
+        this.feeds = sinks.stream().map(SinkFeed::new).toList();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    @Scheduled(fixedDelayString = "${app.ticket.outbox.poll-ms:200}")
+    public synchronized void relay() {
+        try {
+            if (cursor < 0) {
+                cursor = ticketOutboxRepository.findMaxId();
+                log.info("[TICKET-OUTBOX] relaying events after outbox id {}", cursor);
+                return;
+            }
+            feeds.forEach(SinkFeed::retry);
+            deliver(recoverGaps());
+            List<TicketOutboxEntry> entries;
+            do {
+                entries = ticketOutboxRepository.findAfter(cursor, PageRequest.of(0, batchSize));
+                advance(entries);
+                deliver(entries);
+            } while (entries.size() == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("[TICKET-OUTBOX] poll failed, resuming after outbox id {}", cursor, ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ticket.outbox.purge-ms:60000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        Integer purged = transactionTemplate.execute(status -> ticketOutboxRepository.deleteOccurredBefore(cutoff));
+        if (purged != null && purged > 0) {
+            log.info("[TICKET-OUTBOX] purged {} entries older than {}", purged, cutoff);
+        }
+    }
+
+    private void advance(List<TicketOutboxEntry> entries) {
+        long now = System.currentTimeMillis();
+        for (TicketOutboxEntry entry : entries) {
+            long id = entry.getId();
+            // A jump wider than a batch is an identity cache skip, not transactions still in flight
+            if (id - cursor - 1 <= batchSize) {
+                for (long missing = cursor + 1; missing < id; missing++) {
+                    gaps.put(missing, now);
+                }
+            }
+            cursor = id;
+        }
+    }
+
+    private List<TicketOutboxEntry> recoverGaps() {
+        if (gaps.isEmpty()) {
+            return List.of();
+        }
+        List<TicketOutboxEntry> found = ticketOutboxRepository.findAllById(gaps.keySet()).stream()
+                .sorted(Comparator.comparing(TicketOutboxEntry::getId))
+                .toList();
+        found.forEach(entry -> gaps.remove(entry.getId()));
+        long expiredBefore = System.currentTimeMillis() - gapTimeoutMs;
+        gaps.values().removeIf(missedAt -> missedAt <= expiredBefore);
+        return found;
+    }
+
+    private void deliver(List<TicketOutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<TicketEvent> events = entries.stream().map(TicketOutbox::toEvent).toList();
+        for (SinkFeed feed : feeds) {
+            feed.accept(entries, events);
+        }
+    }
+
+    private record FailedEvent(TicketEvent event, int attempts) {
+    }
+
+    private final class SinkFeed {
+
+        private final TicketEventSink sink;
+        private final Map<Long, FailedEvent> failed = new LinkedHashMap<>();
+
+        private SinkFeed(TicketEventSink sink) {
+            this.sink = sink;
+        }
+
+        void accept(List<TicketOutboxEntry> entries, List<TicketEvent> events) {
+            try {
+                sink.accept(events);
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("[TICKET-OUTBOX] {} rejected {} events, delivering them one at a time",
+                        name(), events.size(), ex);
+            }
+            for (int i = 0; i < events.size(); i++) {
+                acceptOne(entries.get(i).getId(), events.get(i), 1);
+            }
+        }
+
+        void retry() {
+            if (failed.isEmpty()) {
+                return;
+            }
+            Map<Long, FailedEvent> pending = new LinkedHashMap<>(failed);
+            failed.clear();
+            pending.forEach((entryId, failure) -> acceptOne(entryId, failure.event(), failure.attempts() + 1));
+        }
+
+        private void acceptOne(Long entryId, TicketEvent event, int attempt) {
+            try {
+                sink.accept(List.of(event));
+            } catch (RuntimeException ex) {
+                if (attempt < maxAttempts) {
+                    failed.put(entryId, new FailedEvent(event, attempt));
+                    return;
+                }
+                log.error("[TICKET-OUTBOX] {} dropped outbox entry {} ({} on ticket {}) after {} attempts",
+                        name(), entryId, event.type(), event.ticketId(), attempt, ex);
+            }
+        }
+
+        private String name() {
+            return sink.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.backend.domain.ticket.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over ticket subject, description and comments, ranked with BM25. Internal
+ * comments are counted separately so a search without them scores as if they did not exist.
+ * Lookups only touch the posting lists of the query terms.
+ */
+final class TicketSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Subject words count as if they appeared this many times
+    private static final int SUBJECT_WEIGHT = 2;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private long publicLength;
+    private long internalLength;
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes or replaces the ticket's own text; comments already indexed are kept.
+     */
+    void putTicket(Long ticketId, Long reporterId, String subject, String description) {
+        List<String> terms = new ArrayList<>();
+        for (String term : tokenize(subject)) {
+            for (int i = 0; i < SUBJECT_WEIGHT; i++) {
+                terms.add(term);
+            }
+        }
+        terms.addAll(tokenize(description));
+
+        lock.writeLock().lock();
+        try {
+            Document document = documents.computeIfAbsent(ticketId, Document::new);
+            document.reporterId = reporterId;
+            publicLength -= unindexOwnTerms(document);
+            document.ownTerms = terms;
+            publicLength += index(document, terms, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a comment once; repeated calls for the same comment are ignored. A comment that
+     * arrives before its ticket is only visible to searches that do not filter by reporter.
+     */
+    void putComment(Long ticketId, Long commentId, String content, boolean internal) {
+        List<String> terms = tokenize(content);
+
+        lock.writeLock().lock();
+        try {
+            Document document = documents.computeIfAbsent(ticketId, Document::new);
+            if (!document.commentIds.add(commentId)) {
+                return;
+            }
+            if (internal) {
+                internalLength += index(document, terms, true);
+            } else {
+                publicLength += index(document, terms, false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long ticketId) {
+        lock.writeLock().lock();
+        try {
+            Document document = documents.remove(ticketId);
+            if (document == null) {
+                return;
+            }
+            publicLength -= document.publicLength;
+            internalLength -= document.internalLength;
+            removePostings(document, document.publicTerms.keySet());
+            removePostings(document, document.internalTerms.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best {@code limit} tickets for {@code query}, highest score first.
+     *
+     * @param reporterId only tickets of this reporter when not null
+     * @param includeInternal whether internal comments match and count
+     */
+    List<Hit> search(String query, Long reporterId, boolean includeInternal, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0,
+                    (double) (publicLength + (includeInternal ? internalLength : 0)) / documentCount);
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Set<Long> ticketIds = postings.get(term);
+                if (ticketIds == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - ticketIds.size() + 0.5) / (ticketIds.size() + 0.5));
+                for (Long ticketId : ticketIds) {
+                    Document document = documents.get(ticketId);
+                    if (reporterId != null && !reporterId.equals(document.reporterId)) {
+                        continue;
+                    }
+                    int frequency = document.publicTerms.getOrDefault(term, 0);
+                    int length = document.publicLength;
+                    if (includeInternal) {
+                        frequency += document.internalTerms.getOrDefault(term, 0);
+                        length += document.internalLength;
+                    }
+                    if (frequency == 0) {
+                        continue;
+                    }
+                    double norm = K1 * (1 - B + B * length / averageLength);
+                    scores.merge(ticketId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                }
+            }
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        // Fold accents so "may in" finds "máy in"; đ has no decomposition
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace('đ', 'd');
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private int index(Document document, List<String> terms, boolean internal) {
+        Map<String, Integer> frequencies = internal ? document.internalTerms : document.publicTerms;
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+            postings.computeIfAbsent(term, key -> new HashSet<>()).add(document.ticketId);
+        }
+        if (internal) {
+            document.internalLength += terms.size();
+        } else {
+            document.publicLength += terms.size();
+        }
+        return terms.size();
+    }
+
+    private int unindexOwnTerms(Document document) {
+        Set<String> emptied = new HashSet<>();
+        for (String term : document.ownTerms) {
+            if (document.publicTerms.merge(term, -1, Integer::sum) <= 0) {
+                document.publicTerms.remove(term);
+                emptied.add(term);
+            }
+        }
+        // Still posted while an internal comment uses the term
+        emptied.removeIf(document.internalTerms::containsKey);
+        removePostings(document, emptied);
+        document.publicLength -= document.ownTerms.size();
+        return document.ownTerms.size();
+    }
+
+    private void removePostings(Document document, Set<String> terms) {
+        for (String term : terms) {
+            Set<Long> ticketIds = postings.get(term);
+            if (ticketIds != null && ticketIds.remove(document.ticketId) && ticketIds.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static List<Hit> top(Map<Long, Double> scores, int limit) {
+        // Worst first, so the heap head is the one to drop; ties go to the newer ticket
+        Comparator<Hit> byRank = Comparator.comparingDouble(Hit::score).thenComparing(Hit::ticketId);
+        PriorityQueue<Hit> best = new PriorityQueue<>(byRank);
+        scores.forEach((ticketId, score) -> {
+            best.offer(new Hit(ticketId, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(byRank.reversed());
+        return hits;
+    }
+
+    record Hit(Long ticketId, double score) {
+    }
+
+    private static final class Document {
+
+        private final Long ticketId;
+        private final Map<String, Integer> publicTerms = new HashMap<>();
+        private final Map<String, Integer> internalTerms = new HashMap<>();
+        private final Set<Long> commentIds = new HashSet<>();
+        private List<String> ownTerms = List.of();
+        private Long reporterId;
+        private int publicLength;
+        private int internalLength;
+
+        private Document(Long ticketId) {
+            this.ticketId = ticketId;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.example.backend.domain.auth.service.AuthUserDetails;
+import org.example.backend.domain.common.api.KeysetRequest;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.repository.TicketCommentRepository;
+import org.example.backend.domain.ticket.repository.TicketCommentSearchSource;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.example.backend.domain.ticket.repository.TicketSearchSource;
+import org.example.backend.domain.ticket.repository.TicketSpecifications;
+import org.example.backend.domain.ticket.repository.TicketSummaryRow;
+import org.example.backend.domain.user.enums.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/**
+ * Ranked full-text search over tickets. The index is built from the database on startup and then
+ * kept current from the ticket outbox, so it can trail a commit by one relay poll. Subjects,
+ * descriptions and comments never change once written, so a periodic catch-up over rows past the
+ * highest ids already read picks up anything this node's relay dropped or started too late for.
+ */
+@Service
+public class TicketSearchService implements TicketEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketSearchService.class);
+
+    private final TicketRepository ticketRepository;
+    private final TicketCommentRepository ticketCommentRepository;
+    private final int warmUpChunkSize;
+    private final TicketSearchIndex index = new TicketSearchIndex();
+
+    // Highest ids read from the database so far; only the catch-up moves them
+    private long ticketWatermark;
+    private long commentWatermark;
+
+    public TicketSearchService(
+            TicketRepository ticketRepository,
+            TicketCommentRepository ticketCommentRepository,
+            @Value("${app.ticket.search.warmup-chunk-size:1000}") int warmUpChunkSize
+    ) {
+        if (warmUpChunkSize <= 0) {
+            throw new IllegalArgumentException("Search warm-up chunk size must be positive");
+        }
+        this.ticketRepository = ticketRepository;
+        this.ticketCommentRepository = ticketCommentRepository;
+        this.warmUpChunkSize = warmUpChunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        catchUp();
+        log.info("[TICKET-SEARCH] index warmed up with {} tickets", index.size());
+    }
+
+    @Scheduled(initialDelayString = "${app.ticket.search.catch-up-ms:60000}",
+            fixedDelayString = "${app.ticket.search.catch-up-ms:60000}")
+    public synchronized void catchUp() {
+        List<TicketSearchSource> tickets;
+        do {
+            tickets = ticketRepository.findSearchSources(ticketWatermark, PageRequest.of(0, warmUpChunkSize));
+            tickets.forEach(this::indexTicket);
+            if (!tickets.isEmpty()) {
+                ticketWatermark = tickets.get(tickets.size() - 1).id();
+            }
+        } while (tickets.size() == warmUpChunkSize);
+
+        List<TicketCommentSearchSource> comments;
+        do {
+            comments = ticketCommentRepository.findSearchSources(commentWatermark, PageRequest.of(0, warmUpChunkSize));
+            comments.forEach(this::indexComment);
+            if (!comments.isEmpty()) {
+                commentWatermark = comments.get(comments.size() - 1).id();
+            }
+        } while (comments.size() == warmUpChunkSize);
+    }
+
+    @Override
+    public void accept(List<TicketEvent> events) {
+        Set<Long> createdIds = new HashSet<>();
+        Set<Long> commentIds = new HashSet<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (TicketEvent event : events) {
+            switch (event.type()) {
+                case CREATED -> createdIds.add(event.ticketId());
+                case COMMENT_ADDED -> commentIds.add(event.commentId());
+                case DELETED -> deletedIds.add(event.ticketId());
+                default -> {
+                    // Status, priority, assignee and SLA changes do not touch indexed text
+                }
+            }
+        }
+        if (!createdIds.isEmpty()) {
+            ticketRepository.findSearchSourcesByIds(createdIds).forEach(this::indexTicket);
+        }
+        if (!commentIds.isEmpty()) {
+            ticketCommentRepository.findSearchSourcesByIds(commentIds).forEach(this::indexComment);
+        }
+        // Last, so a ticket created and deleted within one batch does not linger
+        deletedIds.forEach(index::remove);
+    }
+
+    /**
+     * Tickets matching {@code query} that {@code actor} may view, best match first. End users
+     * search their own tickets and never match on internal comments.
+     */
+    @Transactional(readOnly = true)
+    public List<TicketSummaryRow> search(String query, AuthUserDetails actor, int size) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (size < 1 || size > KeysetRequest.MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + KeysetRequest.MAX_SIZE);
+        }
+        boolean endUser = actor.getRole() == UserRole.END_USER;
+        Long reporterId = endUser ? actor.getId() : null;
+        List<TicketSearchIndex.Hit> hits = index.search(query, reporterId, !endUser, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        // Visibility is applied again against the database, which also drops tickets deleted since indexing
+        Specification<Ticket> spec = TicketSpecifications.withFilters(null, null, null, reporterId)
+                .and(TicketSpecifications.idIn(hits.stream().map(TicketSearchIndex.Hit::ticketId).toList()));
+        Map<Long, TicketSummaryRow> rows = ticketRepository.findSummaries(spec, Sort.unsorted(), hits.size()).stream()
+                .collect(Collectors.toMap(TicketSummaryRow::id, Function.identity()));
+        return hits.stream()
+                .map(hit -> rows.get(hit.ticketId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void indexTicket(TicketSearchSource source) {
+        index.putTicket(source.id(), source.reporterId(), source.subject(), source.description());
+    }
+
+    private void indexComment(TicketCommentSearchSource source) {
+        index.putComment(source.ticketId(), source.id(), source.content(), source.internal());
+    }
+}
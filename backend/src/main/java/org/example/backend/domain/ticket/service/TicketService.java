@@ -3,24 +3,39 @@ package org.example.backend.domain.ticket.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Function;
 import org.example.backend.domain.auth.service.AuthUserDetails;
+import org.example.backend.domain.common.api.CursorPage;
+import org.example.backend.domain.common.api.KeysetCursor;
+import org.example.backend.domain.common.api.KeysetRequest;
 import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.entity.TicketComment;
+import org.example.backend.domain.ticket.entity.TicketHistory;
 import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketEventType;
 import org.example.backend.domain.ticket.enums.TicketPriority;
 import org.example.backend.domain.ticket.enums.TicketSlaFlag;
 import org.example.backend.domain.ticket.enums.TicketStatus;
 import org.example.backend.domain.ticket.repository.TicketRepository;
 import org.example.backend.domain.ticket.repository.TicketSpecifications;
+import org.example.backend.domain.ticket.repository.TicketSummaryRow;
+import org.example.backend.domain.ticket.repository.TicketVersion;
 import org.example.backend.domain.user.entity.User;
 import org.example.backend.domain.user.enums.UserRole;
 import org.example.backend.domain.user.repository.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 @Service
@@ -35,12 +50,19 @@ public class TicketService {
             TicketStatus.RESOLVED
     );
 
+    // Comments and history shown with a ticket; older entries are paged on demand
+    static final int DETAIL_WINDOW_SIZE = 50;
+
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
     private final TicketNumberGenerator ticketNumberGenerator;
     private final WorkflowValidator workflowValidator;
     private final TicketHistoryService ticketHistoryService;
+    private final CommentService commentService;
     private final SlaService slaService;
+    private final SlaTimerService slaTimerService;
+    private final TicketOutbox ticketOutbox;
+    private final TransactionTemplate transactionTemplate;
 
     public TicketService(
             TicketRepository ticketRepository,
@@ -48,20 +70,37 @@ public class TicketService {
             TicketNumberGenerator ticketNumberGenerator,
             WorkflowValidator workflowValidator,
             TicketHistoryService ticketHistoryService,
-            SlaService slaService
+            CommentService commentService,
+            SlaService slaService,
+            SlaTimerService slaTimerService,
+            TicketOutbox ticketOutbox,
+            PlatformTransactionManager transactionManager
     ) {
         this.ticketRepository = ticketRepository;
         this.userRepository = userRepository;
         this.ticketNumberGenerator = ticketNumberGenerator;
         this.workflowValidator = workflowValidator;
         this.ticketHistoryService = ticketHistoryService;
+        this.commentService = commentService;
         this.slaService = slaService;
+        this.slaTimerService = slaTimerService;
+        this.ticketOutbox = ticketOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Draws the ticket number before the insert transaction opens, so a block reservation runs on the
+     * request's only connection instead of taking a second one from the pool while this one is held.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Ticket createTicket(CreateTicketCommand command, AuthUserDetails reporterDetails) {
         validateCreateCommand(command);
         ensureCreateAllowed(reporterDetails);
+        String ticketNumber = ticketNumberGenerator.nextTicketNumber();
+        return transactionTemplate.execute(status -> insertTicket(command, reporterDetails, ticketNumber));
+    }
 
+    private Ticket insertTicket(CreateTicketCommand command, AuthUserDetails reporterDetails, String ticketNumber) {
         User reporter = userRepository.findById(reporterDetails.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Reporter not found"));
 
@@ -72,21 +111,61 @@ public class TicketService {
                 command.category(),
                 reporter
         );
-        ticket.setTicketNumber(ticketNumberGenerator.nextTicketNumber());
+        ticket.setTicketNumber(ticketNumber);
         slaService.initializeSla(ticket, LocalDateTime.now());
 
-        return ticketRepository.save(ticket);
+        Ticket saved = ticketRepository.save(ticket);
+        slaTimerService.track(saved);
+        ticketOutbox.append(TicketEvent.of(TicketEventType.CREATED, saved));
+        return saved;
     }
 
     @Transactional(readOnly = true)
-    public Page<Ticket> findTickets(TicketFilterCriteria filter, AuthUserDetails actor, Pageable pageable) {
+    public Page<TicketSummaryRow> findTickets(TicketFilterCriteria filter, AuthUserDetails actor, Pageable pageable) {
         Specification<Ticket> spec = TicketSpecifications.withFilters(
                 filter.status(),
                 filter.priority(),
                 filter.assigneeId(),
                 actor.getRole() == UserRole.END_USER ? actor.getId() : null
         );
-        return ticketRepository.findAll(spec, pageable);
+        return ticketRepository.findSummaries(spec, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TicketSummaryRow> findTickets(
+            TicketFilterCriteria filter,
+            AuthUserDetails actor,
+            KeysetRequest request,
+            Sort.Direction direction
+    ) {
+        Specification<Ticket> spec = TicketSpecifications.withFilters(
+                filter.status(),
+                filter.priority(),
+                filter.assigneeId(),
+                actor.getRole() == UserRole.END_USER ? actor.getId() : null
+        );
+        Long total = request.includeTotal() ? ticketRepository.count(spec) : null;
+
+        boolean descending = direction == Sort.Direction.DESC;
+        if (request.cursor() != null) {
+            String[] keys = KeysetCursor.decode(request.cursor(), 2);
+            spec = spec.and(TicketSpecifications.createdBeyond(
+                    parseCursorTime(keys[0]),
+                    Long.parseLong(keys[1]),
+                    descending
+            ));
+        }
+        Sort sort = Sort.by(direction, "createdAt").and(Sort.by(direction, "id"));
+        List<TicketSummaryRow> rows = ticketRepository.findSummaries(spec, sort, request.size() + 1);
+
+        boolean hasNext = rows.size() > request.size();
+        List<TicketSummaryRow> content = hasNext ? rows.subList(0, request.size()) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TicketSummaryRow last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.createdAt(), last.id());
+        }
+        return new CursorPage<>(content, nextCursor, hasNext, total);
     }
 
     @Transactional(readOnly = true)
@@ -97,6 +176,100 @@ public class TicketService {
         return ticket;
     }
 
+    @Transactional(readOnly = true)
+    public TicketDetails getTicketDetails(Long ticketId, AuthUserDetails actor) {
+        Ticket ticket = ticketRepository.findDetailById(ticketId)
+                .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
+        ensureCanView(ticket, actor);
+        KeysetRequest window = new KeysetRequest(null, DETAIL_WINDOW_SIZE, false);
+        CursorPage<TicketComment> comments = findComments(ticketId, canSeeInternal(actor), window);
+        CursorPage<TicketHistory> history = findHistory(ticketId, window);
+        return new TicketDetails(
+                ticket,
+                comments.content().reversed(),
+                history.content().reversed(),
+                comments.nextCursor(),
+                history.nextCursor()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TicketComment> findComments(Long ticketId, AuthUserDetails actor, KeysetRequest request) {
+        ensureCanView(findReporterId(ticketId), actor);
+        return findComments(ticketId, canSeeInternal(actor), request);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TicketHistory> findHistory(Long ticketId, AuthUserDetails actor, KeysetRequest request) {
+        ensureCanView(findReporterId(ticketId), actor);
+        return findHistory(ticketId, request);
+    }
+
+    /**
+     * Validator for the ticket detail and its comments as seen by {@code actor}, computed without
+     * loading the ticket. Role is part of it because end users see fewer comments.
+     */
+    @Transactional(readOnly = true)
+    public String getTicketVersionTag(Long ticketId, AuthUserDetails actor) {
+        TicketVersion version = ticketRepository.findVersionById(ticketId)
+                .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
+        ensureCanView(version.getReporterId(), actor);
+        LocalDateTime updatedAt = version.getUpdatedAt();
+        return String.join("-",
+                Long.toString(ticketId),
+                Long.toString(updatedAt.toEpochSecond(ZoneOffset.UTC), 36) + "." + updatedAt.getNano(),
+                String.valueOf(version.getLastCommentId()),
+                String.valueOf(version.getLastHistoryId()),
+                actor.getRole() == UserRole.END_USER ? "own" : "all"
+        );
+    }
+
+    /**
+     * Comments, history and ticket fields newer than {@code cursor}; everything when it is null.
+     * Starts from the version probe, so a poll on an unchanged ticket costs one query.
+     */
+    @Transactional(readOnly = true)
+    public TicketChanges getChangesSince(Long ticketId, String cursor, AuthUserDetails actor) {
+        TicketVersion version = ticketRepository.findVersionById(ticketId)
+                .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
+        ensureCanView(version.getReporterId(), actor);
+
+        LocalDateTime seenUpdatedAt = null;
+        long seenCommentId = 0;
+        long seenHistoryId = 0;
+        if (cursor != null) {
+            String[] keys = KeysetCursor.decode(cursor, 3);
+            seenUpdatedAt = parseCursorTime(keys[0]);
+            seenCommentId = Long.parseLong(keys[1]);
+            seenHistoryId = Long.parseLong(keys[2]);
+        }
+        long lastCommentId = version.getLastCommentId() != null ? version.getLastCommentId() : 0;
+        long lastHistoryId = version.getLastHistoryId() != null ? version.getLastHistoryId() : 0;
+
+        Ticket ticket = null;
+        LocalDateTime updatedAt = version.getUpdatedAt();
+        if (!updatedAt.equals(seenUpdatedAt)) {
+            ticket = ticketRepository.findDetailById(ticketId)
+                    .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
+            updatedAt = ticket.getUpdatedAt();
+        }
+        List<TicketComment> comments = lastCommentId > seenCommentId
+                ? commentService.findCommentsAfter(ticketId, seenCommentId)
+                : List.of();
+        List<TicketHistory> history = lastHistoryId > seenHistoryId
+                ? ticketHistoryService.findHistoryAfter(ticketId, seenHistoryId)
+                : List.of();
+
+        // Rows committed after the probe may already be in the lists; move the cursor past them too
+        for (TicketComment comment : comments) {
+            lastCommentId = Math.max(lastCommentId, comment.getId());
+        }
+        for (TicketHistory entry : history) {
+            lastHistoryId = Math.max(lastHistoryId, entry.getId());
+        }
+        return new TicketChanges(ticket, comments, history, KeysetCursor.encode(updatedAt, lastCommentId, lastHistoryId));
+    }
+
     public Ticket updateTicket(Long ticketId, UpdateTicketCommand command, AuthUserDetails actor) {
         ensureAgentOrAdmin(actor);
         Ticket ticket = ticketRepository.findById(ticketId)
@@ -126,20 +299,29 @@ public class TicketService {
             slaService.applyDeadlines(ticket, LocalDateTime.now());
         }
 
+        LocalDateTime now = LocalDateTime.now();
         if (ACTIVE_STATUSES.contains(ticket.getStatus())) {
-            ticket.setSlaFlag(slaService.evaluateFlag(ticket, LocalDateTime.now()));
+            ticket.setSlaFlag(slaService.evaluateFlag(ticket, now));
+            ticket.setSlaNextCheckAt(slaService.nextFlagChangeAt(ticket, now));
         } else {
             ticket.setSlaFlag(TicketSlaFlag.OK);
+            ticket.setSlaNextCheckAt(null);
         }
 
-        return ticketRepository.save(ticket);
+        Ticket saved = ticketRepository.save(ticket);
+        slaTimerService.track(saved);
+        ticketOutbox.append(TicketEvent.of(TicketEventType.UPDATED, saved));
+        return saved;
     }
 
     public void deleteTicket(Long ticketId, AuthUserDetails actor) {
         ensureAdmin(actor);
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
+        TicketEvent deleted = TicketEvent.of(TicketEventType.DELETED, ticket);
         ticketRepository.delete(ticket);
+        slaTimerService.cancel(ticketId);
+        ticketOutbox.append(deleted);
     }
 
     public Ticket changeStatus(Long ticketId, TicketStatusChangeCommand command, AuthUserDetails actor) {
@@ -152,60 +334,40 @@ public class TicketService {
 
         TicketStatus previous = ticket.getStatus();
         ticket.setStatus(command.toStatus());
+        LocalDateTime now = LocalDateTime.now();
+        if (previous == TicketStatus.ON_HOLD) {
+            slaService.resumeSla(ticket, now);
+        }
 
         switch (command.toStatus()) {
-            case RESOLVED -> ticket.setResolvedAt(LocalDateTime.now());
+            case ON_HOLD -> slaService.pauseSla(ticket, now);
+            case RESOLVED -> ticket.setResolvedAt(now);
             case CLOSED -> {
-                ticket.setClosedAt(LocalDateTime.now());
+                ticket.setClosedAt(now);
                 ticket.setSlaFlag(TicketSlaFlag.OK);
+                ticket.setSlaNextCheckAt(null);
             }
             case REOPENED -> {
                 ticket.setClosedAt(null);
                 ticket.setResolvedAt(null);
-                slaService.applyDeadlines(ticket, LocalDateTime.now());
+                slaService.applyDeadlines(ticket, now);
             }
             default -> {
             }
         }
 
         if (ACTIVE_STATUSES.contains(command.toStatus())) {
-            ticket.setSlaFlag(slaService.evaluateFlag(ticket, LocalDateTime.now()));
+            ticket.setSlaFlag(slaService.evaluateFlag(ticket, now));
+            ticket.setSlaNextCheckAt(slaService.nextFlagChangeAt(ticket, now));
         }
 
         User actorEntity = userRepository.findById(actor.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Actor not found"));
         ticketHistoryService.recordStatusChange(ticket, previous, command.toStatus(), actorEntity, command.note());
-        return ticketRepository.save(ticket);
-    }
-
-    public int autoCloseResolvedTickets(LocalDateTime threshold, String note) {
-        List<Ticket> tickets = ticketRepository.findByStatusAndResolvedAtBefore(TicketStatus.RESOLVED, threshold);
-        int count = 0;
-        LocalDateTime now = LocalDateTime.now();
-        for (Ticket ticket : tickets) {
-            TicketStatus previous = ticket.getStatus();
-            ticket.setStatus(TicketStatus.CLOSED);
-            ticket.setClosedAt(now);
-            ticket.setSlaFlag(TicketSlaFlag.OK);
-            User actor = ticket.getAssignee() != null ? ticket.getAssignee() : ticket.getReporter();
-            ticketHistoryService.recordStatusChange(ticket, previous, TicketStatus.CLOSED, actor, note);
-            ticketRepository.save(ticket);
-            count++;
-        }
-        return count;
-    }
-
-    @Transactional
-    public int reinitializeAllSla() {
-        List<Ticket> tickets = ticketRepository.findAll();
-        int count = 0;
-        LocalDateTime now = LocalDateTime.now();
-        for (Ticket ticket : tickets) {
-            slaService.initializeSla(ticket, now);
-            ticketRepository.save(ticket);
-            count++;
-        }
-        return count;
+        Ticket saved = ticketRepository.save(ticket);
+        slaTimerService.track(saved);
+        ticketOutbox.append(TicketEvent.of(TicketEventType.STATUS_CHANGED, saved));
+        return saved;
     }
 
     private void validateCreateCommand(CreateTicketCommand command) {
@@ -226,8 +388,69 @@ public class TicketService {
         }
     }
 
+    private CursorPage<TicketComment> findComments(Long ticketId, boolean includeInternal, KeysetRequest request) {
+        Long total = request.includeTotal() ? commentService.countComments(ticketId, includeInternal) : null;
+        return newestFirst(request, total, TicketComment::getCreatedAt, TicketComment::getId,
+                (beforeCreatedAt, beforeId, limit) ->
+                        commentService.findLatestComments(ticketId, includeInternal, beforeCreatedAt, beforeId, limit));
+    }
+
+    private CursorPage<TicketHistory> findHistory(Long ticketId, KeysetRequest request) {
+        Long total = request.includeTotal() ? ticketHistoryService.countHistory(ticketId) : null;
+        return newestFirst(request, total, TicketHistory::getCreatedAt, TicketHistory::getId,
+                (beforeCreatedAt, beforeId, limit) ->
+                        ticketHistoryService.findLatestHistory(ticketId, beforeCreatedAt, beforeId, limit));
+    }
+
+    private <T> CursorPage<T> newestFirst(
+            KeysetRequest request,
+            Long total,
+            Function<T, LocalDateTime> createdAt,
+            Function<T, Long> id,
+            ThreadWindow<T> window
+    ) {
+        LocalDateTime beforeCreatedAt = null;
+        Long beforeId = null;
+        if (request.cursor() != null) {
+            String[] keys = KeysetCursor.decode(request.cursor(), 2);
+            beforeCreatedAt = parseCursorTime(keys[0]);
+            beforeId = Long.parseLong(keys[1]);
+        }
+        List<T> rows = window.fetch(beforeCreatedAt, beforeId, request.size() + 1);
+
+        boolean hasNext = rows.size() > request.size();
+        List<T> content = hasNext ? rows.subList(0, request.size()) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(createdAt.apply(last), id.apply(last));
+        }
+        return new CursorPage<>(content, nextCursor, hasNext, total);
+    }
+
+    private Long findReporterId(Long ticketId) {
+        return ticketRepository.findReporterIdById(ticketId)
+                .orElseThrow(() -> new EntityNotFoundException("Ticket not found"));
+    }
+
+    private static boolean canSeeInternal(AuthUserDetails actor) {
+        return actor.getRole() != UserRole.END_USER;
+    }
+
+    private LocalDateTime parseCursorTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
     private void ensureCanView(Ticket ticket, AuthUserDetails actor) {
-        if (actor.getRole() == UserRole.END_USER && !ticket.getReporter().getId().equals(actor.getId())) {
+        ensureCanView(ticket.getReporter().getId(), actor);
+    }
+
+    private void ensureCanView(Long reporterId, AuthUserDetails actor) {
+        if (actor.getRole() == UserRole.END_USER && !reporterId.equals(actor.getId())) {
             throw new IllegalStateException("You do not have access to this ticket");
         }
     }
@@ -253,4 +476,10 @@ public class TicketService {
             throw new IllegalStateException("Only agent or admin can perform this action");
         }
     }
+
+    @FunctionalInterface
+    private interface ThreadWindow<T> {
+
+        List<T> fetch(LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+    }
 }
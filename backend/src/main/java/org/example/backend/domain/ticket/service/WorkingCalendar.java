@@ -0,0 +1,302 @@
+package org.example.backend.domain.ticket.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Working-hour calendar used to place SLA deadlines. Working windows are laid out once per day into
+ * sorted arrays with a running total of working time, so adding working time and measuring it
+ * between two instants are binary searches. The index grows on demand when an instant falls
+ * outside the precomputed range.
+ */
+final class WorkingCalendar {
+
+    static final String ALWAYS_OPEN = "24x7";
+
+    private static final int DAY_MILLIS = 86_400_000;
+    private static final int PAST_DAYS = 400;
+    private static final int FUTURE_DAYS = 800;
+
+    private final String name;
+    private final Map<DayOfWeek, int[]> windowsByDay;
+    private final Set<LocalDate> holidays;
+    private final ReentrantLock extendLock = new ReentrantLock();
+    private volatile Index index;
+
+    private WorkingCalendar(String name, Map<DayOfWeek, int[]> windowsByDay, Set<LocalDate> holidays) {
+        this.name = name;
+        this.windowsByDay = windowsByDay;
+        this.holidays = holidays;
+    }
+
+    static WorkingCalendar alwaysOpen() {
+        return new WorkingCalendar(ALWAYS_OPEN, null, Set.of());
+    }
+
+    /**
+     * Builds a calendar from entries such as {@code MON-FRI 08:00-12:00,13:00-17:00} or
+     * {@code SAT 09:00-13:00}. Windows are end-exclusive; {@code 24:00} closes a window at midnight.
+     */
+    static WorkingCalendar of(String name, Collection<String> hours, Collection<LocalDate> holidays) {
+        if (hours == null || hours.isEmpty()) {
+            throw new IllegalArgumentException("Calendar " + name + " has no working hours");
+        }
+        Map<DayOfWeek, List<int[]>> parsed = new EnumMap<>(DayOfWeek.class);
+        for (String entry : hours) {
+            String[] parts = entry.trim().split("\\s+", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid working hours '" + entry + "' in calendar " + name);
+            }
+            List<int[]> windows = parseWindows(name, parts[1]);
+            for (DayOfWeek day : parseDays(name, parts[0])) {
+                parsed.computeIfAbsent(day, key -> new ArrayList<>()).addAll(windows);
+            }
+        }
+
+        Map<DayOfWeek, int[]> windowsByDay = new EnumMap<>(DayOfWeek.class);
+        parsed.forEach((day, windows) -> windowsByDay.put(day, flatten(name, day, windows)));
+        return new WorkingCalendar(name, windowsByDay, holidays != null ? Set.copyOf(holidays) : Set.of());
+    }
+
+    String name() {
+        return name;
+    }
+
+    boolean isAlwaysOpen() {
+        return windowsByDay == null;
+    }
+
+    /**
+     * Earliest instant at which {@code amount} of working time has elapsed since {@code from}.
+     */
+    LocalDateTime addWorkingTime(LocalDateTime from, Duration amount) {
+        if (isAlwaysOpen()) {
+            return from.plus(amount);
+        }
+        long amountMillis = amount.toMillis();
+        if (amountMillis <= 0) {
+            return from;
+        }
+        long fromMillis = SlaTimeCalculator.toEpochMillis(from);
+        Index current = covering(fromMillis);
+        long target = current.workedUntil(fromMillis) + amountMillis;
+        while (target > current.total()) {
+            current = extend(current.lastDay().plusDays(FUTURE_DAYS));
+            // Another thread may have moved the first day back, and running totals start there
+            target = current.workedUntil(fromMillis) + amountMillis;
+        }
+        return SlaTimeCalculator.fromEpochMillis(current.instantAt(target));
+    }
+
+    /**
+     * Working time elapsed between {@code from} and {@code to}; zero when {@code to} is not after
+     * {@code from}.
+     */
+    Duration workingTimeBetween(LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            return Duration.ZERO;
+        }
+        if (isAlwaysOpen()) {
+            return Duration.between(from, to);
+        }
+        long fromMillis = SlaTimeCalculator.toEpochMillis(from);
+        long toMillis = SlaTimeCalculator.toEpochMillis(to);
+        covering(fromMillis);
+        Index current = covering(toMillis);
+        return Duration.ofMillis(current.workedUntil(toMillis) - current.workedUntil(fromMillis));
+    }
+
+    private Index covering(long millis) {
+        Index current = index;
+        if (current != null && current.covers(millis)) {
+            return current;
+        }
+        return extend(LocalDate.ofEpochDay(Math.floorDiv(millis, DAY_MILLIS)));
+    }
+
+    private Index extend(LocalDate day) {
+        extendLock.lock();
+        try {
+            Index current = index;
+            LocalDate first = day.minusDays(PAST_DAYS);
+            LocalDate last = day.plusDays(FUTURE_DAYS);
+            if (current != null) {
+                if (current.covers(day)) {
+                    return current;
+                }
+                first = first.isBefore(current.firstDay()) ? first : current.firstDay();
+                last = last.isAfter(current.lastDay()) ? last : current.lastDay();
+            }
+            Index rebuilt = build(first, last);
+            index = rebuilt;
+            return rebuilt;
+        } finally {
+            extendLock.unlock();
+        }
+    }
+
+    private Index build(LocalDate first, LocalDate last) {
+        int capacity = 0;
+        for (int[] windows : windowsByDay.values()) {
+            capacity = Math.max(capacity, windows.length / 2);
+        }
+        int days = (int) (last.toEpochDay() - first.toEpochDay());
+        long[] starts = new long[capacity * days];
+        long[] ends = new long[capacity * days];
+        int count = 0;
+        for (LocalDate day = first; day.isBefore(last); day = day.plusDays(1)) {
+            int[] windows = windowsByDay.get(day.getDayOfWeek());
+            if (windows == null || holidays.contains(day)) {
+                continue;
+            }
+            long dayStart = day.toEpochDay() * DAY_MILLIS;
+            for (int i = 0; i < windows.length; i += 2) {
+                starts[count] = dayStart + windows[i];
+                ends[count] = dayStart + windows[i + 1];
+                count++;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalStateException("Calendar " + name + " has no working time between " + first + " and " + last);
+        }
+
+        long[] cumulative = new long[count + 1];
+        for (int i = 0; i < count; i++) {
+            cumulative[i + 1] = cumulative[i] + ends[i] - starts[i];
+        }
+        return new Index(first, last, Arrays.copyOf(starts, count), Arrays.copyOf(ends, count), cumulative);
+    }
+
+    private static List<DayOfWeek> parseDays(String name, String spec) {
+        List<DayOfWeek> days = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] range = part.split("-");
+            DayOfWeek from = parseDay(name, range[0]);
+            DayOfWeek to = range.length > 1 ? parseDay(name, range[1]) : from;
+            for (int offset = 0; offset <= Math.floorMod(to.ordinal() - from.ordinal(), 7); offset++) {
+                days.add(from.plus(offset));
+            }
+        }
+        return days;
+    }
+
+    private static DayOfWeek parseDay(String name, String token) {
+        String key = token.trim().toUpperCase(Locale.ROOT);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (key.length() >= 3 && day.name().startsWith(key)) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("Invalid day '" + token + "' in calendar " + name);
+    }
+
+    private static List<int[]> parseWindows(String name, String spec) {
+        List<int[]> windows = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] range = part.trim().split("-");
+            if (range.length != 2) {
+                throw new IllegalArgumentException("Invalid window '" + part + "' in calendar " + name);
+            }
+            int start = parseTime(name, range[0]);
+            int end = parseTime(name, range[1]);
+            if (end <= start) {
+                throw new IllegalArgumentException("Window '" + part + "' in calendar " + name + " must end after it starts");
+            }
+            windows.add(new int[] {start, end});
+        }
+        return windows;
+    }
+
+    private static int parseTime(String name, String token) {
+        String value = token.trim();
+        if ("24:00".equals(value)) {
+            return DAY_MILLIS;
+        }
+        try {
+            return (int) (LocalTime.parse(value).toNanoOfDay() / 1_000_000);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid time '" + token + "' in calendar " + name, ex);
+        }
+    }
+
+    private static int[] flatten(String name, DayOfWeek day, List<int[]> windows) {
+        windows.sort((left, right) -> Integer.compare(left[0], right[0]));
+        int[] flat = new int[windows.size() * 2];
+        for (int i = 0; i < windows.size(); i++) {
+            int[] window = windows.get(i);
+            if (i > 0 && window[0] < flat[2 * i - 1]) {
+                throw new IllegalArgumentException("Overlapping windows on " + day + " in calendar " + name);
+            }
+            flat[2 * i] = window[0];
+            flat[2 * i + 1] = window[1];
+        }
+        return flat;
+    }
+
+    /**
+     * Working windows between {@code firstDay} (inclusive) and {@code lastDay} (exclusive);
+     * {@code cumulative[i]} is the working time before window {@code i}.
+     */
+    private record Index(LocalDate firstDay, LocalDate lastDay, long[] starts, long[] ends, long[] cumulative) {
+
+        boolean covers(long millis) {
+            return millis >= firstDay.toEpochDay() * DAY_MILLIS && millis < lastDay.toEpochDay() * DAY_MILLIS;
+        }
+
+        boolean covers(LocalDate day) {
+            return !day.isBefore(firstDay) && day.isBefore(lastDay);
+        }
+
+        long total() {
+            return cumulative[starts.length];
+        }
+
+        long workedUntil(long millis) {
+            // Last window starting at or before millis
+            int low = 0;
+            int high = starts.length - 1;
+            int window = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= millis) {
+                    window = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (window < 0) {
+                return 0;
+            }
+            return cumulative[window] + Math.min(millis, ends[window]) - starts[window];
+        }
+
+        long instantAt(long worked) {
+            // First window whose running total reaches the requested working time
+            int low = 0;
+            int high = starts.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid + 1] >= worked) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return starts[low] + worked - cumulative[low];
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.backend.domain.user.controller;
 
 import jakarta.validation.Valid;
+import org.example.backend.domain.common.api.CursorPage;
+import org.example.backend.domain.common.api.KeysetRequest;
 import org.example.backend.domain.user.dto.request.CreateUserRequest;
 import org.example.backend.domain.user.dto.request.ResetPasswordRequest;
 import org.example.backend.domain.user.dto.request.UpdateUserRequest;
@@ -52,6 +54,25 @@ public class UserAdminController {
         return userAdminService.listUsers(keyword, role, departmentId, active, pageable);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<UserSummaryResponse> scrollUsers(
+            @RequestParam(value = "q", required = false) String keyword,
+            @RequestParam(value = "role", required = false) UserRole role,
+            @RequestParam(value = "departmentId", required = false) Long departmentId,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        return userAdminService.listUsers(
+                keyword,
+                role,
+                departmentId,
+                active,
+                new KeysetRequest(cursor, size, includeTotal)
+        );
+    }
+
     @GetMapping("/{id}")
     public UserDetailResponse getUser(@PathVariable Long id) {
         return userAdminService.getUser(id);
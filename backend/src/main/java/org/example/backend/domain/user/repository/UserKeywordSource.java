@@ -0,0 +1,9 @@
+package org.example.backend.domain.user.repository;
+
+public record UserKeywordSource(
+        Long id,
+        String username,
+        String email,
+        String fullName
+) {
+}
@@ -1,10 +1,12 @@
 package org.example.backend.domain.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.example.backend.domain.user.entity.User;
 import org.example.backend.domain.user.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,4 +21,10 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     boolean existsByEmail(String email);
 
     long countByRole(UserRole role);
+
+    @Query("""
+            select new org.example.backend.domain.user.repository.UserKeywordSource(u.id, u.username, u.email, u.fullName)
+            from User u
+            """)
+    List<UserKeywordSource> findKeywordSources();
 }
@@ -1,6 +1,8 @@
 package org.example.backend.domain.user.repository;
 
 import jakarta.persistence.criteria.JoinType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import org.example.backend.domain.user.entity.User;
 import org.example.backend.domain.user.enums.UserRole;
 import org.springframework.data.jpa.domain.Specification;
@@ -58,4 +60,19 @@ public final class UserSpecifications {
         }
         return (root, query, builder) -> builder.equal(root.get("active"), active);
     }
+
+    public static Specification<User> idIn(Collection<Long> ids) {
+        return (root, query, builder) -> ids.isEmpty() ? builder.disjunction() : root.get("id").in(ids);
+    }
+
+    public static Specification<User> updatedSince(LocalDateTime since) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("updatedAt"), since);
+    }
+
+    public static Specification<User> idGreaterThan(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.greaterThan(root.get("id"), id);
+    }
 }
@@ -1,7 +1,11 @@
 package org.example.backend.domain.user.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
 import java.util.Optional;
+import org.example.backend.domain.common.api.CursorPage;
+import org.example.backend.domain.common.api.KeysetCursor;
+import org.example.backend.domain.common.api.KeysetRequest;
 import org.example.backend.domain.department.dto.DepartmentLiteDto;
 import org.example.backend.domain.department.entity.Department;
 import org.example.backend.domain.user.dto.request.CreateUserRequest;
@@ -16,6 +20,8 @@ import org.example.backend.domain.user.repository.UserRepository;
 import org.example.backend.domain.user.repository.UserSpecifications;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,15 +32,18 @@ public class UserAdminService {
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserKeywordIndex userKeywordIndex;
 
     public UserAdminService(
             UserRepository userRepository,
             DepartmentRepository departmentRepository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            UserKeywordIndex userKeywordIndex
     ) {
         this.userRepository = userRepository;
         this.departmentRepository = departmentRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userKeywordIndex = userKeywordIndex;
     }
 
     @Transactional
@@ -56,6 +65,7 @@ public class UserAdminService {
         user.setActive(true);
 
         User saved = userRepository.save(user);
+        userKeywordIndex.index(saved);
         return toSummary(saved);
     }
 
@@ -99,6 +109,7 @@ public class UserAdminService {
             user.setEmail(request.email().trim());
         }
 
+        userKeywordIndex.index(user);
         return toDetail(user);
     }
 
@@ -135,6 +146,7 @@ public class UserAdminService {
         User user = findUserOrThrow(userId);
         guardLastAdmin(user);
         userRepository.delete(user);
+        userKeywordIndex.remove(userId);
     }
 
     @Transactional(readOnly = true)
@@ -151,11 +163,48 @@ public class UserAdminService {
             Pageable pageable
     ) {
         return userRepository.findAll(
-                UserSpecifications.withFilters(keyword, role, departmentId, active),
+                withFilters(keyword, role, departmentId, active),
                 pageable
         ).map(this::toSummary);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<UserSummaryResponse> listUsers(
+            String keyword,
+            UserRole role,
+            Long departmentId,
+            Boolean active,
+            KeysetRequest request
+    ) {
+        Specification<User> spec = withFilters(keyword, role, departmentId, active);
+        Long total = request.includeTotal() ? userRepository.count(spec) : null;
+
+        if (request.cursor() != null) {
+            String[] keys = KeysetCursor.decode(request.cursor(), 1);
+            spec = spec.and(UserSpecifications.idGreaterThan(Long.parseLong(keys[0])));
+        }
+        List<User> users = userRepository.findBy(spec, query -> query
+                .sortBy(Sort.by("id"))
+                .limit(request.size() + 1)
+                .all());
+
+        boolean hasNext = users.size() > request.size();
+        List<User> content = hasNext ? users.subList(0, request.size()) : users;
+        String nextCursor = hasNext ? KeysetCursor.encode(content.get(content.size() - 1).getId()) : null;
+        return new CursorPage<>(content.stream().map(this::toSummary).toList(), nextCursor, hasNext, total);
+    }
+
+    private Specification<User> withFilters(String keyword, UserRole role, Long departmentId, Boolean active) {
+        Specification<User> spec = UserSpecifications.withFilters(keyword, role, departmentId, active);
+        // The LIKE predicates still decide; the id list lets them run on a handful of rows
+        UserKeywordIndex.Candidates candidates = userKeywordIndex.candidates(keyword);
+        if (candidates == null) {
+            return spec;
+        }
+        return spec.and(UserSpecifications.idIn(candidates.ids())
+                .or(UserSpecifications.updatedSince(candidates.changedSince())));
+    }
+
     private void validateUsernameUniqueness(String username) {
         if (userRepository.existsByUsername(username)) {
             throw new IllegalArgumentException("Username already exists.");
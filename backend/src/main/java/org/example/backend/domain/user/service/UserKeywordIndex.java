@@ -0,0 +1,218 @@
+package org.example.backend.domain.user.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.repository.UserKeywordSource;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Trigram index over username, email and full name that narrows a keyword search to candidate
+ * ids before the LIKE predicates run. Candidates may contain false positives but never miss a
+ * match, so the database filter stays authoritative. Entries are written after commit.
+ * <p>
+ * Writes made on other nodes only reach this index when it is rebuilt from the database, so
+ * {@link Candidates} also carries the time of the last rebuild: users changed since then must be
+ * checked by the database whether or not they are candidates.
+ */
+@Component
+public class UserKeywordIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserKeywordIndex.class);
+    private static final int GRAM_LENGTH = 3;
+    // Rebuilds are stamped with this node's clock, updated_at with the writer's
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private final int maxCandidates;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Set<Long>> postings = new HashMap<>();
+    private Map<Long, Set<String>> gramsByUser = new HashMap<>();
+    private LocalDateTime changedSince;
+
+    public UserKeywordIndex(
+            UserRepository userRepository,
+            @Value("${app.user.search.max-candidates:1000}") int maxCandidates
+    ) {
+        if (maxCandidates <= 0) {
+            throw new IllegalArgumentException("User search candidate limit must be positive");
+        }
+        this.userRepository = userRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${app.user.search.rebuild-ms:300000}",
+            fixedDelayString = "${app.user.search.rebuild-ms:300000}")
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<UserKeywordSource> users = userRepository.findKeywordSources();
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        Map<Long, Set<String>> newGramsByUser = new HashMap<>();
+        for (UserKeywordSource user : users) {
+            put(newPostings, newGramsByUser, user.id(), gramsOf(user.username(), user.email(), user.fullName()));
+        }
+        lock.writeLock().lock();
+        try {
+            // Writes committed while the rows were read are lost here but fall after changedSince
+            postings = newPostings;
+            gramsByUser = newGramsByUser;
+            changedSince = startedAt.minus(CLOCK_SKEW);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[USER-SEARCH] keyword index rebuilt with {} users", users.size());
+    }
+
+    public void index(User user) {
+        Long userId = user.getId();
+        Set<String> grams = gramsOf(user.getUsername(), user.getEmail(), user.getFullName());
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                put(postings, gramsByUser, userId, grams);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long userId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(postings, gramsByUser, userId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Users that may match {@code keyword}, or null when the index cannot narrow the search: not
+     * built yet, no keyword, one shorter than a trigram, LIKE wildcards in it, or too many candidates.
+     */
+    public Candidates candidates(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String normalized = normalize(keyword.trim());
+        if (normalized.length() < GRAM_LENGTH || hasLikeSyntax(normalized)) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (changedSince == null) {
+                return null;
+            }
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : gramsOf(normalized)) {
+                Set<Long> userIds = postings.get(gram);
+                if (userIds == null) {
+                    return new Candidates(Set.of(), changedSince);
+                }
+                lists.add(userIds);
+            }
+            // Intersect starting from the rarest trigram
+            lists.sort(Comparator.comparingInt(Set::size));
+            Set<Long> ids = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !ids.isEmpty(); i++) {
+                ids.retainAll(lists.get(i));
+            }
+            return ids.size() <= maxCandidates ? new Candidates(ids, changedSince) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> gramsOf(String... values) {
+        Set<String> grams = new HashSet<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            String normalized = normalize(value);
+            for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+                grams.add(normalized.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    private static boolean hasLikeSyntax(String keyword) {
+        return keyword.indexOf('%') >= 0 || keyword.indexOf('_') >= 0 || keyword.indexOf('\\') >= 0;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static void put(
+            Map<String, Set<Long>> postings,
+            Map<Long, Set<String>> gramsByUser,
+            Long userId,
+            Set<String> grams
+    ) {
+        delete(postings, gramsByUser, userId);
+        gramsByUser.put(userId, grams);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(userId);
+        }
+    }
+
+    private static void delete(Map<String, Set<Long>> postings, Map<Long, Set<String>> gramsByUser, Long userId) {
+        Set<String> grams = gramsByUser.remove(userId);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<Long> userIds = postings.get(gram);
+            if (userIds != null && userIds.remove(userId) && userIds.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Candidate ids for a keyword. Users updated at or after {@code changedSince} may be missing
+     * from {@code ids} and have to be matched by the database as well.
+     */
+    public record Candidates(Set<Long> ids, LocalDateTime changedSince) {
+    }
+}
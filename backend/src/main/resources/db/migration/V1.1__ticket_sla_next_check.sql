@@ -0,0 +1,5 @@
+-- Earliest instant at which the SLA flag can move; the SLA sweep only reads rows whose check is due
+-- Existing rows stay unscheduled until POST /api/admin/tickets/reinit-sla recomputes them
+ALTER TABLE tickets ADD COLUMN sla_next_check_at TIMESTAMP(6);
+
+CREATE INDEX idx_tickets_sla_next_check ON tickets (sla_next_check_at);
@@ -0,0 +1,5 @@
+-- Per-year ticket number counters; a year's row is seeded from its highest ticket number on first use
+CREATE TABLE ticket_number_sequences (
+    sequence_year INTEGER NOT NULL PRIMARY KEY,
+    next_value    BIGINT  NOT NULL
+);
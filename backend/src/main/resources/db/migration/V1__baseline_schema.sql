@@ -0,0 +1,73 @@
+CREATE TABLE departments (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    code        VARCHAR(32)  NOT NULL,
+    name        VARCHAR(128) NOT NULL,
+    description VARCHAR(512),
+    active      BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_departments_code UNIQUE (code),
+    CONSTRAINT uk_departments_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username             VARCHAR(255) NOT NULL,
+    email                VARCHAR(255) NOT NULL,
+    password_hash        VARCHAR(255) NOT NULL,
+    full_name            VARCHAR(255) NOT NULL,
+    role                 VARCHAR(20)  NOT NULL,
+    department_id        BIGINT,
+    is_active            BOOLEAN      NOT NULL,
+    must_change_password BOOLEAN      NOT NULL,
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT fk_users_department FOREIGN KEY (department_id) REFERENCES departments (id)
+);
+
+CREATE TABLE tickets (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ticket_number           VARCHAR(32)  NOT NULL,
+    subject                 VARCHAR(255) NOT NULL,
+    description             TEXT         NOT NULL,
+    status                  VARCHAR(32)  NOT NULL,
+    priority                VARCHAR(16)  NOT NULL,
+    reporter_id             BIGINT       NOT NULL,
+    assignee_id             BIGINT,
+    category                VARCHAR(32)  NOT NULL,
+    sla_response_deadline   TIMESTAMP(6),
+    sla_resolution_deadline TIMESTAMP(6),
+    sla_flag                VARCHAR(16),
+    created_at              TIMESTAMP(6) NOT NULL,
+    updated_at              TIMESTAMP(6) NOT NULL,
+    resolved_at             TIMESTAMP(6),
+    closed_at               TIMESTAMP(6),
+    CONSTRAINT uk_tickets_ticket_number UNIQUE (ticket_number),
+    CONSTRAINT fk_tickets_reporter FOREIGN KEY (reporter_id) REFERENCES users (id),
+    CONSTRAINT fk_tickets_assignee FOREIGN KEY (assignee_id) REFERENCES users (id)
+);
+
+CREATE TABLE ticket_comments (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ticket_id   BIGINT       NOT NULL,
+    author_id   BIGINT       NOT NULL,
+    content     TEXT         NOT NULL,
+    is_internal BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_ticket_comments_ticket FOREIGN KEY (ticket_id) REFERENCES tickets (id),
+    CONSTRAINT fk_ticket_comments_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE ticket_history (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ticket_id   BIGINT       NOT NULL,
+    from_status VARCHAR(32)  NOT NULL,
+    to_status   VARCHAR(32)  NOT NULL,
+    changed_by  BIGINT       NOT NULL,
+    note        TEXT,
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_ticket_history_ticket FOREIGN KEY (ticket_id) REFERENCES tickets (id),
+    CONSTRAINT fk_ticket_history_changed_by FOREIGN KEY (changed_by) REFERENCES users (id)
+);
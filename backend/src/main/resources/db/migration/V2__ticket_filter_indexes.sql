@@ -0,0 +1,12 @@
+-- GET /api/tickets: status / priority filters, newest-first ordering
+CREATE INDEX idx_tickets_status_priority_created ON tickets (status, priority, created_at);
+
+-- agent queues and end-user "my tickets" views
+CREATE INDEX idx_tickets_assignee_status_created ON tickets (assignee_id, status, created_at);
+CREATE INDEX idx_tickets_reporter_status_created ON tickets (reporter_id, status, created_at);
+
+-- unfiltered keyset scrolling on (created_at, id)
+CREATE INDEX idx_tickets_created_at_id ON tickets (created_at, id);
+
+-- nightly auto-close: status = 'RESOLVED' and resolved_at < threshold, walked by id
+CREATE INDEX idx_tickets_status_resolved_at ON tickets (status, resolved_at, id);
@@ -0,0 +1,26 @@
+-- NEAR thresholds are stored per ticket so that working-hour calendars only matter when deadlines are set
+ALTER TABLE tickets ADD COLUMN sla_response_near_at TIMESTAMP(6);
+ALTER TABLE tickets ADD COLUMN sla_resolution_near_at TIMESTAMP(6);
+
+-- Existing deadlines were computed around the clock: NEAR is 80% into the target, i.e. 20% before the deadline
+-- The offsets are 20% of the per-priority targets hard-coded in SlaService when this ran (seeded by V4 since);
+-- they describe the rows written under those rules and must not follow later policy changes
+UPDATE tickets SET sla_response_near_at = CASE priority
+        WHEN 'CRITICAL' THEN sla_response_deadline - INTERVAL '48' MINUTE
+        WHEN 'HIGH' THEN sla_response_deadline - INTERVAL '72' MINUTE
+        WHEN 'MEDIUM' THEN sla_response_deadline - INTERVAL '84' MINUTE
+        WHEN 'LOW' THEN sla_response_deadline - INTERVAL '108' MINUTE
+        WHEN 'IMPROVEMENT' THEN sla_response_deadline - INTERVAL '288' MINUTE
+    END
+WHERE sla_response_deadline IS NOT NULL;
+
+UPDATE tickets SET sla_resolution_near_at = CASE priority
+        WHEN 'CRITICAL' THEN sla_resolution_deadline - INTERVAL '108' MINUTE
+        WHEN 'HIGH' THEN sla_resolution_deadline - INTERVAL '216' MINUTE
+        WHEN 'MEDIUM' THEN sla_resolution_deadline - INTERVAL '312' MINUTE
+        WHEN 'LOW' THEN sla_resolution_deadline - INTERVAL '540' MINUTE
+    END
+WHERE sla_resolution_deadline IS NOT NULL;
+
+-- IMPROVEMENT has no resolution target; a deadline left over from an earlier priority was never evaluated
+UPDATE tickets SET sla_resolution_deadline = NULL WHERE priority = 'IMPROVEMENT';
@@ -0,0 +1,20 @@
+-- SLA targets per priority, optionally narrowed to a category and/or department (NULL = any)
+CREATE TABLE sla_policies (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    priority           VARCHAR(16)  NOT NULL,
+    category           VARCHAR(32),
+    department_id      BIGINT,
+    response_minutes   INTEGER,
+    resolution_minutes INTEGER,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_sla_policies_department FOREIGN KEY (department_id) REFERENCES departments (id) ON DELETE CASCADE
+);
+
+-- Standard support rules that used to be hard-coded in SlaService
+INSERT INTO sla_policies (priority, category, department_id, response_minutes, resolution_minutes, created_at, updated_at) VALUES
+    ('CRITICAL', NULL, NULL, 240, 540, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('HIGH', NULL, NULL, 360, 1080, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('MEDIUM', NULL, NULL, 420, 1560, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('LOW', NULL, NULL, 540, 2700, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('IMPROVEMENT', NULL, NULL, 1440, NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
@@ -0,0 +1,5 @@
+ALTER TABLE tickets ADD COLUMN sla_paused_at TIMESTAMP(6);
+ALTER TABLE tickets ADD COLUMN sla_paused_millis BIGINT DEFAULT 0 NOT NULL;
+
+-- Tickets already on hold stop aging from their last update; paused tickets are not swept
+UPDATE tickets SET sla_paused_at = updated_at, sla_next_check_at = NULL WHERE status = 'ON_HOLD';
@@ -0,0 +1,16 @@
+-- Ticket events written in the same transaction as the change and drained by TicketOutboxRelay.
+-- No foreign key to tickets: a DELETED event outlives its ticket.
+CREATE TABLE ticket_outbox (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type    VARCHAR(32)  NOT NULL,
+    ticket_id     BIGINT,
+    reporter_id   BIGINT,
+    ticket_number VARCHAR(32),
+    status        VARCHAR(32),
+    priority      VARCHAR(16),
+    sla_flag      VARCHAR(16),
+    assignee_id   BIGINT,
+    comment_id    BIGINT,
+    is_internal   BOOLEAN      NOT NULL,
+    occurred_at   TIMESTAMP(6) NOT NULL
+);
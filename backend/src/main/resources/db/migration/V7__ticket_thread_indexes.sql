@@ -0,0 +1,3 @@
+-- Newest-first comment and history windows for a ticket, keyset on (created_at, id)
+CREATE INDEX idx_ticket_comments_ticket_created ON ticket_comments (ticket_id, created_at, id);
+CREATE INDEX idx_ticket_history_ticket_created ON ticket_history (ticket_id, created_at, id);
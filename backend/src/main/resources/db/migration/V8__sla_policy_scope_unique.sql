@@ -0,0 +1,5 @@
+-- One policy per priority x category x department. NULL means "any" and unique indexes treat NULLs as
+-- distinct, so the index runs over copies of category and department_id with NULL folded to a value.
+ALTER TABLE sla_policies ADD COLUMN category_key VARCHAR(32) GENERATED ALWAYS AS (COALESCE(category, '*'));
+ALTER TABLE sla_policies ADD COLUMN department_key BIGINT GENERATED ALWAYS AS (COALESCE(department_id, 0));
+CREATE UNIQUE INDEX uq_sla_policies_scope ON sla_policies (priority, category_key, department_key);
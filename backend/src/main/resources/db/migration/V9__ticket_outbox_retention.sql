@@ -0,0 +1,3 @@
+-- Outbox entries are no longer deleted on delivery: every node reads them with its own cursor
+-- and TicketOutboxRelay purges them by age.
+CREATE INDEX idx_ticket_outbox_occurred_at ON ticket_outbox (occurred_at);
@@ -0,0 +1,142 @@
+package org.example.backend.domain.ticket.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.domain.auth.service.AuthUserDetails;
+import org.example.backend.domain.ticket.dto.request.CreateSlaPolicyRequest;
+import org.example.backend.domain.ticket.dto.request.UpdateSlaPolicyRequest;
+import org.example.backend.domain.ticket.entity.SlaPolicy;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.repository.SlaPolicyRepository;
+import org.example.backend.domain.user.repository.DepartmentRepository;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class SlaPolicyControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private SlaPolicyRepository slaPolicyRepository;
+
+    private AuthUserDetails adminUser;
+    private AuthUserDetails agentUser;
+
+    @BeforeEach
+    void setUp() {
+        adminUser = AuthUserDetails.from(userRepository.findByUsername("admin").orElseThrow());
+        agentUser = AuthUserDetails.from(userRepository.findByUsername("agent").orElseThrow());
+    }
+
+    @Test
+    void listPolicies_returnsSeededStandardRules() throws Exception {
+        mockMvc.perform(get("/api/admin/sla-policies").with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].priority").value("CRITICAL"))
+                .andExpect(jsonPath("$[0].responseMinutes").value(240))
+                .andExpect(jsonPath("$[4].priority").value("IMPROVEMENT"))
+                .andExpect(jsonPath("$[4].resolutionMinutes").value(nullValue()));
+    }
+
+    @Test
+    void listPolicies_forbiddenForNonAdmin() throws Exception {
+        mockMvc.perform(get("/api/admin/sla-policies").with(user(agentUser)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void createUpdateAndDeletePolicy() throws Exception {
+        Long itDepartmentId = departmentRepository.findByCodeIgnoreCase("IT").orElseThrow().getId();
+        CreateSlaPolicyRequest request = new CreateSlaPolicyRequest(
+                TicketPriority.CRITICAL, TicketCategory.SECURITY, itDepartmentId, 30, 120);
+
+        String body = mockMvc.perform(post("/api/admin/sla-policies")
+                        .with(user(adminUser))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.category").value("SECURITY"))
+                .andExpect(jsonPath("$.department.code").value("IT"))
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get("id").asLong();
+
+        mockMvc.perform(post("/api/admin/sla-policies")
+                        .with(user(adminUser))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(put("/api/admin/sla-policies/{id}", id)
+                        .with(user(adminUser))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateSlaPolicyRequest(45, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responseMinutes").value(45))
+                .andExpect(jsonPath("$.resolutionMinutes").value(nullValue()));
+
+        mockMvc.perform(delete("/api/admin/sla-policies/{id}", id)
+                        .with(user(adminUser))
+                        .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        assertThat(slaPolicyRepository.existsById(id)).isFalse();
+    }
+
+    @Test
+    void createPolicy_rejectsNonPositiveTargets() throws Exception {
+        CreateSlaPolicyRequest request = new CreateSlaPolicyRequest(TicketPriority.LOW, null, null, 0, null);
+
+        mockMvc.perform(post("/api/admin/sla-policies")
+                        .with(user(adminUser))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void policyScopeIsUniqueWhenCategoryAndDepartmentAreAny() {
+        // Bypasses the service check, as a concurrent create that passed it would
+        SlaPolicy duplicate = new SlaPolicy(TicketPriority.CRITICAL, null, null, 60, 120);
+
+        assertThatThrownBy(() -> slaPolicyRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.backend.domain.ticket.controller;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+
+    static void reset() {
+        COUNT.set(0);
+    }
+
+    static int count() {
+        return COUNT.get();
+    }
+}
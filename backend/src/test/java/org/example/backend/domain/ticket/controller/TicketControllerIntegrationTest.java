@@ -0,0 +1,385 @@
+package org.example.backend.domain.ticket.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.example.backend.domain.auth.service.AuthUserDetails;
+import org.example.backend.domain.ticket.dto.request.CreateTicketRequest;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.entity.TicketComment;
+import org.example.backend.domain.ticket.entity.TicketHistory;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketEventType;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.ticket.service.TicketEvent;
+import org.example.backend.domain.ticket.service.TicketSearchService;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.backend.domain.ticket.controller.StatementCounter")
+@AutoConfigureMockMvc
+@Transactional
+class TicketControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TicketSearchService ticketSearchService;
+
+    private AuthUserDetails adminUser;
+    private AuthUserDetails reporterUser;
+    private Long ticketId;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        User agent = userRepository.findByUsername("agent").orElseThrow();
+        User reporter = userRepository.findByUsername("alice").orElseThrow();
+        adminUser = AuthUserDetails.from(admin);
+        reporterUser = AuthUserDetails.from(reporter);
+
+        Ticket ticket = new Ticket("Printer offline", "Printer on floor 3 is offline", TicketPriority.HIGH,
+                TicketCategory.HARDWARE, reporter);
+        ticket.setTicketNumber("ITSM-TEST-0001");
+        ticket.setAssignee(agent);
+        entityManager.persist(ticket);
+        entityManager.persist(new TicketComment(ticket, reporter, "Still offline", false));
+        entityManager.persist(new TicketComment(ticket, agent, "Checking the spooler", true));
+        entityManager.persist(new TicketComment(ticket, admin, "Escalated to vendor", false));
+        entityManager.persist(new TicketHistory(ticket, TicketStatus.NEW, TicketStatus.IN_PROGRESS, agent, null));
+        entityManager.persist(new TicketHistory(ticket, TicketStatus.IN_PROGRESS, TicketStatus.ON_HOLD, admin, "Waiting"));
+        entityManager.flush();
+        entityManager.clear();
+        ticketId = ticket.getId();
+    }
+
+    @Test
+    void createTicket_assignsNumberFromReservedBlock() throws Exception {
+        CreateTicketRequest request = new CreateTicketRequest("Laptop will not boot", "Black screen after the logo",
+                TicketPriority.MEDIUM, TicketCategory.HARDWARE);
+
+        mockMvc.perform(post("/api/tickets")
+                        .with(user(reporterUser))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.ticketNumber").value(startsWith("ITSM-")))
+                .andExpect(jsonPath("$.slaFlag").value("OK"));
+    }
+
+    @Test
+    void getTicket_loadsDetailsWithConstantStatementCount() throws Exception {
+        StatementCounter.reset();
+
+        mockMvc.perform(get("/api/tickets/{id}", ticketId).with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assigneeUsername").value("agent"))
+                .andExpect(jsonPath("$.comments.length()").value(3))
+                .andExpect(jsonPath("$.history.length()").value(2));
+
+        // Version probe, then ticket with reporter/assignee, comments and history
+        assertThat(StatementCounter.count()).isEqualTo(4);
+    }
+
+    @Test
+    void getTicket_answersNotModifiedFromVersionProbe() throws Exception {
+        String etag = mockMvc.perform(get("/api/tickets/{id}", ticketId).with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        StatementCounter.reset();
+
+        mockMvc.perform(get("/api/tickets/{id}", ticketId).header(HttpHeaders.IF_NONE_MATCH, etag).with(user(adminUser)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        assertThat(StatementCounter.count()).isEqualTo(1);
+
+        // End users get their own validator because they see fewer comments
+        mockMvc.perform(get("/api/tickets/{id}", ticketId).header(HttpHeaders.IF_NONE_MATCH, etag).with(user(reporterUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void listComments_revalidatesAfterNewComment() throws Exception {
+        String etag = mockMvc.perform(get("/api/tickets/{id}/comments", ticketId).with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tickets/{id}/comments", ticketId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(user(reporterUser)))
+                .andExpect(status().isNotModified());
+
+        Ticket ticket = entityManager.find(Ticket.class, ticketId);
+        entityManager.persist(new TicketComment(ticket, ticket.getReporter(), "Any update?", false));
+        entityManager.flush();
+
+        mockMvc.perform(get("/api/tickets/{id}/comments", ticketId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    void listComments_returnsTheLatestWindowOldestFirst() throws Exception {
+        mockMvc.perform(get("/api/tickets/{id}/comments", ticketId).param("size", "2").with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].content").value("Checking the spooler"))
+                .andExpect(jsonPath("$[1].content").value("Escalated to vendor"));
+
+        mockMvc.perform(get("/api/tickets/{id}/comments", ticketId).with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(jsonPath("$[0].content").value("Still offline"));
+    }
+
+    @Test
+    void listComments_returnsNotFoundForMissingTicket() throws Exception {
+        mockMvc.perform(get("/api/tickets/{id}/comments", Long.MAX_VALUE).with(user(adminUser)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void listTickets_projectsSummariesWithoutPerRowQueries() throws Exception {
+        StatementCounter.reset();
+
+        mockMvc.perform(get("/api/tickets").param("size", "2").with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.totalElements").isNumber());
+
+        assertThat(StatementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    void listTickets_asReporter_returnsOnlyOwnTickets() throws Exception {
+        Ticket othersTicket = new Ticket("Monitor flickers", "Monitor on desk 12 flickers", TicketPriority.HIGH,
+                TicketCategory.HARDWARE, userRepository.findByUsername("admin").orElseThrow());
+        othersTicket.setTicketNumber("ITSM-TEST-0002");
+        entityManager.persist(othersTicket);
+        entityManager.flush();
+
+        String body = mockMvc.perform(get("/api/tickets").param("priority", "HIGH").with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.ticketNumber == 'ITSM-TEST-0001')].assigneeUsername")
+                        .value("agent"))
+                .andExpect(jsonPath("$.content[*].ticketNumber", not(hasItem("ITSM-TEST-0002"))))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode content = objectMapper.readTree(body).get("content");
+        assertThat(content).isNotEmpty();
+        for (JsonNode row : content) {
+            Ticket listed = entityManager.find(Ticket.class, row.get("id").asLong());
+            assertThat(listed.getReporter().getId()).isEqualTo(reporterUser.getId());
+        }
+    }
+
+    @Test
+    void scrollTickets_returnsNewestFirstWithCursor() throws Exception {
+        StatementCounter.reset();
+
+        mockMvc.perform(get("/api/tickets/scroll").param("size", "1").with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].ticketNumber").value("ITSM-TEST-0001"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        assertThat(StatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void scrollTickets_includesTotalOnRequest() throws Exception {
+        mockMvc.perform(get("/api/tickets/scroll")
+                        .param("size", "100")
+                        .param("includeTotal", "true")
+                        .with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").isNumber());
+    }
+
+    @Test
+    void getTicket_hidesInternalCommentsFromReporter() throws Exception {
+        mockMvc.perform(get("/api/tickets/{id}", ticketId).with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(2));
+    }
+
+    @Test
+    void getTicket_returnsLatestCommentWindowWithCursorToOlderOnes() throws Exception {
+        Ticket ticket = entityManager.find(Ticket.class, ticketId);
+        for (int i = 1; i <= 50; i++) {
+            entityManager.persist(new TicketComment(ticket, ticket.getAssignee(), "Update " + i, false));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        StatementCounter.reset();
+
+        String body = mockMvc.perform(get("/api/tickets/{id}", ticketId).with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(50))
+                .andExpect(jsonPath("$.comments[0].content").value("Update 1"))
+                .andExpect(jsonPath("$.comments[49].content").value("Update 50"))
+                .andExpect(jsonPath("$.olderCommentsCursor").isString())
+                .andExpect(jsonPath("$.olderHistoryCursor").value(nullValue()))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(StatementCounter.count()).isEqualTo(4);
+        String cursor = objectMapper.readTree(body).get("olderCommentsCursor").asText();
+
+        mockMvc.perform(get("/api/tickets/{id}/comments/scroll", ticketId)
+                        .param("cursor", cursor)
+                        .param("size", "10")
+                        .with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].content")
+                        .value(contains("Escalated to vendor", "Checking the spooler", "Still offline")))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void scrollComments_pagesNewestFirstWithoutInternalCommentsForReporter() throws Exception {
+        String body = mockMvc.perform(get("/api/tickets/{id}/comments/scroll", ticketId)
+                        .param("size", "1")
+                        .param("includeTotal", "true")
+                        .with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value("Escalated to vendor"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/tickets/{id}/comments/scroll", ticketId)
+                        .param("cursor", cursor)
+                        .param("size", "1")
+                        .with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value("Still offline"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void scrollHistory_pagesNewestFirst() throws Exception {
+        mockMvc.perform(get("/api/tickets/{id}/history/scroll", ticketId).param("size", "1").with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].toStatus").value("ON_HOLD"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/api/tickets/{id}/history/scroll", ticketId).param("cursor", "bm9wZQ").with(user(adminUser)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getChanges_returnsOnlyWhatIsNewerThanTheCursor() throws Exception {
+        String body = mockMvc.perform(get("/api/tickets/{id}/changes", ticketId).with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticket.ticketNumber").value("ITSM-TEST-0001"))
+                .andExpect(jsonPath("$.comments.length()").value(3))
+                .andExpect(jsonPath("$.history.length()").value(2))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("cursor").asText();
+        StatementCounter.reset();
+
+        mockMvc.perform(get("/api/tickets/{id}/changes", ticketId).param("since", cursor).with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticket").value(nullValue()))
+                .andExpect(jsonPath("$.comments.length()").value(0))
+                .andExpect(jsonPath("$.history.length()").value(0))
+                .andExpect(jsonPath("$.cursor").value(cursor));
+        assertThat(StatementCounter.count()).isEqualTo(1);
+
+        Ticket ticket = entityManager.find(Ticket.class, ticketId);
+        entityManager.persist(new TicketComment(ticket, ticket.getAssignee(), "Vendor is on site", true));
+        entityManager.persist(new TicketComment(ticket, ticket.getAssignee(), "Printer is back", false));
+        entityManager.flush();
+
+        mockMvc.perform(get("/api/tickets/{id}/changes", ticketId).param("since", cursor).with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticket").value(nullValue()))
+                .andExpect(jsonPath("$.comments.length()").value(1))
+                .andExpect(jsonPath("$.comments[0].content").value("Printer is back"))
+                .andExpect(jsonPath("$.history.length()").value(0));
+    }
+
+    @Test
+    void getChanges_rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/tickets/{id}/changes", ticketId).param("since", "not-a-cursor").with(user(adminUser)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchTickets_ranksIndexedTicketsWithinViewerVisibility() throws Exception {
+        Ticket ticket = entityManager.find(Ticket.class, ticketId);
+        TicketComment internal = new TicketComment(ticket, ticket.getAssignee(), "Replaced the fuser assembly", true);
+        entityManager.persist(internal);
+        entityManager.flush();
+        ticketSearchService.accept(List.of(
+                TicketEvent.of(TicketEventType.CREATED, ticket),
+                TicketEvent.commentAdded(internal)
+        ));
+
+        mockMvc.perform(get("/api/tickets/search").param("q", "fuser").with(user(adminUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].ticketNumber").value("ITSM-TEST-0001"));
+        mockMvc.perform(get("/api/tickets/search").param("q", "fuser").with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].ticketNumber", not(hasItem("ITSM-TEST-0001"))));
+        mockMvc.perform(get("/api/tickets/search").param("q", "printer offline").with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].ticketNumber", hasItem("ITSM-TEST-0001")));
+        mockMvc.perform(get("/api/tickets/search").param("q", " ").with(user(adminUser)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamEvents_opensEventStream() throws Exception {
+        mockMvc.perform(get("/api/tickets/events").accept(MediaType.TEXT_EVENT_STREAM).with(user(reporterUser)))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+}
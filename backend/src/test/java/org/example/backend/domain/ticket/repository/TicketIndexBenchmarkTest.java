@@ -0,0 +1,155 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares list and scheduler query latency with and without the V2 ticket indexes.
+ * Run with {@code mvn test -Dtest=TicketIndexBenchmarkTest -Dbenchmark=true [-Dbenchmark.tickets=1000000]}.
+ * H2 result reuse is off, otherwise repeated runs of an unchanged query return a cached result.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:ticket-index-benchmark;DB_CLOSE_DELAY=-1;"
+        + "OPTIMIZE_REUSE_RESULTS=FALSE")
+@DirtiesContext
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TicketIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketIndexBenchmarkTest.class);
+
+    private static final String[] STATUSES = {"NEW", "IN_PROGRESS", "ON_HOLD", "RESOLVED", "CLOSED", "REOPENED"};
+    private static final String[] PRIORITIES = {"CRITICAL", "HIGH", "MEDIUM", "LOW", "IMPROVEMENT"};
+    // The V2 indexes
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_tickets_status_priority_created", "status, priority, created_at",
+            "idx_tickets_assignee_status_created", "assignee_id, status, created_at",
+            "idx_tickets_reporter_status_created", "reporter_id, status, created_at",
+            "idx_tickets_created_at_id", "created_at, id",
+            "idx_tickets_status_resolved_at", "status, resolved_at, id"
+    );
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 15;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareQueryLatencyWithAndWithoutIndexes() {
+        int tickets = Integer.getInteger("benchmark.tickets", 1_000_000);
+        long reporterId = jdbcTemplate.queryForObject("select id from users where username = 'alice'", Long.class);
+        long assigneeId = jdbcTemplate.queryForObject("select id from users where username = 'agent'", Long.class);
+        LocalDateTime now = LocalDateTime.now();
+        seed(tickets, reporterId, assigneeId, now);
+
+        Map<String, Object[]> queries = queries(reporterId, assigneeId, now);
+
+        INDEXES.keySet().forEach(index -> jdbcTemplate.execute("drop index " + index));
+        Map<String, Double> before = measure(queries);
+
+        INDEXES.forEach((index, columns) ->
+                jdbcTemplate.execute("create index " + index + " on tickets (" + columns + ")"));
+        jdbcTemplate.execute("analyze");
+        Map<String, Double> after = measure(queries);
+
+        log.info("[INDEX-BENCHMARK] tickets={}", tickets);
+        queries.forEach((sql, args) -> {
+            log.info("[INDEX-BENCHMARK] {} -> before={}ms after={}ms", sql, format(before.get(sql)), format(after.get(sql)));
+            log.info("[INDEX-BENCHMARK] plan: {}", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+        });
+        assertThat(after).hasSameSizeAs(before);
+    }
+
+    private void seed(int tickets, long reporterId, long assigneeId, LocalDateTime now) {
+        String sql = """
+                insert into tickets (ticket_number, subject, description, status, priority, reporter_id, assignee_id,
+                    category, sla_flag, sla_next_check_at, created_at, updated_at, resolved_at)
+                values (?, ?, ?, ?, ?, ?, ?, 'SOFTWARE', 'OK', ?, ?, ?, ?)
+                """;
+        int batchSize = 10_000;
+        for (int start = 0; start < tickets; start += batchSize) {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            for (int i = start; i < Math.min(tickets, start + batchSize); i++) {
+                String status = STATUSES[i % STATUSES.length];
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(tickets - i));
+                batch.add(new Object[]{
+                        "BENCH-%07d".formatted(i),
+                        "Benchmark ticket " + i,
+                        "Seeded for index benchmark",
+                        status,
+                        PRIORITIES[(i / STATUSES.length) % PRIORITIES.length],
+                        reporterId,
+                        i % 3 == 0 ? null : assigneeId,
+                        Timestamp.valueOf(now.plusMinutes(i % 600)),
+                        createdAt,
+                        createdAt,
+                        "RESOLVED".equals(status) ? createdAt : null
+                });
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        jdbcTemplate.execute("analyze");
+    }
+
+    private Map<String, Object[]> queries(long reporterId, long assigneeId, LocalDateTime now) {
+        Map<String, Object[]> queries = new LinkedHashMap<>();
+        queries.put(
+                "select id from tickets where status = ? and priority = ? order by created_at desc limit 20",
+                new Object[]{"NEW", "HIGH"}
+        );
+        queries.put(
+                "select id from tickets where assignee_id = ? and status = ? order by created_at desc limit 20",
+                new Object[]{assigneeId, "IN_PROGRESS"}
+        );
+        queries.put(
+                "select id from tickets where reporter_id = ? and status = ? order by created_at desc limit 20",
+                new Object[]{reporterId, "ON_HOLD"}
+        );
+        queries.put(
+                "select id from tickets where status = ? and resolved_at < ? and id > ? order by id limit 500",
+                new Object[]{"RESOLVED", Timestamp.valueOf(now.minusDays(7)), 0L}
+        );
+        // SLA sweep, served by the V1.1 sla_next_check_at index in both runs
+        queries.put(
+                "select count(*) from tickets where sla_next_check_at <= ? "
+                        + "and status in ('NEW', 'IN_PROGRESS', 'REOPENED')",
+                new Object[]{Timestamp.valueOf(now.plusMinutes(5))}
+        );
+        return queries;
+    }
+
+    private Map<String, Double> measure(Map<String, Object[]> queries) {
+        Map<String, Double> medians = new LinkedHashMap<>();
+        queries.forEach((sql, args) -> {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                jdbcTemplate.queryForList(sql, args);
+            }
+            double[] samples = new double[MEASURED_RUNS];
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                long started = System.nanoTime();
+                jdbcTemplate.queryForList(sql, args);
+                samples[i] = (System.nanoTime() - started) / 1_000_000.0;
+            }
+            Arrays.sort(samples);
+            medians.put(sql, samples[MEASURED_RUNS / 2]);
+        });
+        return medians;
+    }
+
+    private static String format(double millis) {
+        return "%.2f".formatted(millis);
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.backend.domain.ticket.repository;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TicketIndexMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsAreApplied() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "select \"version\" from \"flyway_schema_history\""
+                        + " where \"success\" = true and \"version\" is not null order by \"installed_rank\"",
+                String.class
+        );
+
+        assertThat(versions).startsWith("1", "1.1", "1.2", "2", "3");
+    }
+
+    @Test
+    void ticketFilterIndexesExist() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where lower(table_name) = 'tickets'",
+                String.class
+        );
+
+        assertThat(indexes).contains(
+                "idx_tickets_status_priority_created",
+                "idx_tickets_assignee_status_created",
+                "idx_tickets_reporter_status_created",
+                "idx_tickets_created_at_id",
+                "idx_tickets_status_resolved_at"
+        );
+        assertThat(indexes).doesNotContain("idx_tickets_priority_sla_next_check");
+    }
+
+    @Test
+    void ticketThreadIndexesExist() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes"
+                        + " where lower(table_name) in ('ticket_comments', 'ticket_history')",
+                String.class
+        );
+
+        assertThat(indexes).contains("idx_ticket_comments_ticket_created", "idx_ticket_history_ticket_created");
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.backend.domain.ticket.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class TicketSlaSweepRepositoryTest {
+
+    private static final List<TicketStatus> ACTIVE_STATUSES = List.of(
+            TicketStatus.NEW,
+            TicketStatus.IN_PROGRESS,
+            TicketStatus.REOPENED,
+            TicketStatus.RESOLVED
+    );
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void databaseSweep_breachesTicketsWithoutResponseTarget() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Ticket ticket = ticket("ITSM-TEST-SLA-1");
+        ticket.setSlaResolutionNearAt(now.minusMinutes(10));
+        ticket.setSlaResolutionDeadline(now.plusMinutes(10));
+        ticket.setSlaNextCheckAt(now.minusMinutes(10));
+        Long id = ticketRepository.saveAndFlush(ticket).getId();
+        entityManager.clear();
+
+        assertThat(ticketRepository.markSlaNear(ACTIVE_STATUSES, TicketSlaFlag.OK, TicketSlaFlag.NEAR, now))
+                .isEqualTo(1);
+        entityManager.clear();
+        Ticket near = ticketRepository.findById(id).orElseThrow();
+        assertThat(near.getSlaFlag()).isEqualTo(TicketSlaFlag.NEAR);
+        assertThat(near.getSlaNextCheckAt()).isEqualTo(now.plusMinutes(10));
+
+        assertThat(ticketRepository.markSlaBreached(ACTIVE_STATUSES, TicketSlaFlag.BREACHED, now.plusMinutes(20)))
+                .isEqualTo(1);
+        entityManager.clear();
+        assertThat(ticketRepository.findById(id).orElseThrow().getSlaFlag()).isEqualTo(TicketSlaFlag.BREACHED);
+    }
+
+    @Test
+    void snapshotSweep_leavesTicketsWhoseCommittedDeadlinesMovedOn() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        // Deadlines extended after the snapshot last saw the ticket
+        Ticket ticket = ticket("ITSM-TEST-SLA-2");
+        ticket.setSlaResponseNearAt(now.plusHours(1));
+        ticket.setSlaResponseDeadline(now.plusHours(2));
+        ticket.setSlaNextCheckAt(now.plusHours(1));
+        Long id = ticketRepository.saveAndFlush(ticket).getId();
+        entityManager.clear();
+
+        assertThat(ticketRepository.markSlaNearByIds(List.of(id), ACTIVE_STATUSES, TicketSlaFlag.OK,
+                TicketSlaFlag.NEAR, now)).isZero();
+        assertThat(ticketRepository.markSlaBreachedByIds(List.of(id), ACTIVE_STATUSES, TicketSlaFlag.BREACHED, now))
+                .isZero();
+        entityManager.clear();
+        assertThat(ticketRepository.findById(id).orElseThrow().getSlaFlag()).isEqualTo(TicketSlaFlag.OK);
+    }
+
+    private Ticket ticket(String ticketNumber) {
+        Ticket ticket = new Ticket("SLA sweep", "sweep repository test",
+                TicketPriority.LOW, TicketCategory.SOFTWARE, userRepository.findByUsername("admin").orElseThrow());
+        ticket.setTicketNumber(ticketNumber);
+        return ticket;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.backend.domain.ticket.service;
+
+import java.util.List;
+import org.example.backend.domain.ticket.entity.SlaPolicy;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+
+/**
+ * The standard support rules seeded by the V4 migration, for tests that run without a database.
+ */
+public final class SlaPolicyFixtures {
+
+    private SlaPolicyFixtures() {
+    }
+
+    public static SlaPolicies standardPolicies() {
+        SlaPolicies policies = new SlaPolicies();
+        policies.replace(List.of(
+                new SlaPolicy(TicketPriority.CRITICAL, null, null, 240, 540),
+                new SlaPolicy(TicketPriority.HIGH, null, null, 360, 1080),
+                new SlaPolicy(TicketPriority.MEDIUM, null, null, 420, 1560),
+                new SlaPolicy(TicketPriority.LOW, null, null, 540, 2700),
+                new SlaPolicy(TicketPriority.IMPROVEMENT, null, null, 1440, null)
+        ));
+        return policies;
+    }
+}
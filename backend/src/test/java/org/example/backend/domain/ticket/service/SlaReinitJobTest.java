@@ -0,0 +1,136 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SlaReinitJobTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private SlaTimerService slaTimerService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // Partitions run when the test says so, so a job can be observed while it is still running
+    private final List<Runnable> pendingPartitions = new ArrayList<>();
+    private SlaReinitJob job;
+    private List<Ticket> tickets;
+
+    @BeforeEach
+    void setUp() {
+        SlaService slaService = new SlaService(SlaCalendars.alwaysOpen(), SlaPolicyFixtures.standardPolicies());
+        job = new SlaReinitJob(ticketRepository, slaService, slaTimerService, transactionManager,
+                new TaskExecutorAdapter(pendingPartitions::add), 2, 1);
+
+        tickets = List.of(
+                ticket(1L, TicketStatus.NEW),
+                ticket(2L, TicketStatus.IN_PROGRESS),
+                ticket(3L, TicketStatus.RESOLVED),
+                ticket(4L, TicketStatus.CLOSED),
+                ticket(5L, TicketStatus.REOPENED)
+        );
+        given(ticketRepository.count()).willReturn(5L);
+        given(ticketRepository.findMinId()).willReturn(1L);
+        given(ticketRepository.findMaxId()).willReturn(5L);
+        given(ticketRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(0L, 5L, PageRequest.of(0, 2)))
+                .willReturn(tickets.subList(0, 2));
+        given(ticketRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(2L, 5L, PageRequest.of(0, 2)))
+                .willReturn(tickets.subList(2, 4));
+        given(ticketRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(4L, 5L, PageRequest.of(0, 2)))
+                .willReturn(tickets.subList(4, 5));
+    }
+
+    @Test
+    void start_walksThePartitionInKeysetChunks() {
+        SlaReinitStatus started = job.start();
+        assertThat(started.state()).isEqualTo(SlaReinitStatus.State.RUNNING);
+        assertThat(started.total()).isEqualTo(5);
+
+        runPendingPartitions();
+
+        SlaReinitStatus finished = job.status(started.jobId());
+        assertThat(finished.state()).isEqualTo(SlaReinitStatus.State.COMPLETED);
+        assertThat(finished.processed()).isEqualTo(5);
+        assertThat(finished.finishedAt()).isNotNull();
+        verify(slaTimerService, times(5)).track(any(Ticket.class));
+        assertThat(tickets.get(0).getSlaResponseDeadline()).isNotNull();
+        assertThat(tickets.get(4).getSlaNextCheckAt()).isNotNull();
+    }
+
+    @Test
+    void start_leavesResolvedAndClosedTicketsAlone() {
+        LocalDateTime deadline = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (Ticket finished : tickets.subList(2, 4)) {
+            finished.setSlaResponseDeadline(deadline);
+            finished.setSlaFlag(TicketSlaFlag.BREACHED);
+        }
+
+        job.start();
+        runPendingPartitions();
+
+        for (Ticket finished : tickets.subList(2, 4)) {
+            assertThat(finished.getSlaResponseDeadline()).isEqualTo(deadline);
+            assertThat(finished.getSlaFlag()).isEqualTo(TicketSlaFlag.BREACHED);
+            assertThat(finished.getSlaNextCheckAt()).isNull();
+        }
+    }
+
+    @Test
+    void start_rejectsASecondRunUntilTheFirstFinishesAndThenRunsAgain() {
+        SlaReinitStatus first = job.start();
+
+        assertThatThrownBy(job::start).isInstanceOf(IllegalStateException.class);
+
+        runPendingPartitions();
+        LocalDateTime firstDeadline = tickets.get(0).getSlaResponseDeadline();
+        SlaReinitStatus second = job.start();
+        runPendingPartitions();
+
+        assertThat(second.jobId()).isNotEqualTo(first.jobId());
+        assertThat(job.status(second.jobId()).state()).isEqualTo(SlaReinitStatus.State.COMPLETED);
+        assertThat(job.status(second.jobId()).processed()).isEqualTo(5);
+        // Restarting recomputes from scratch instead of stacking on the previous run
+        assertThat(tickets.get(0).getSlaResponseDeadline()).isAfterOrEqualTo(firstDeadline);
+        assertThat(tickets.get(0).getSlaResponseDeadline()).isBefore(firstDeadline.plusMinutes(1));
+        assertThat(tickets.get(0).getSlaFlag()).isEqualTo(TicketSlaFlag.OK);
+    }
+
+    private void runPendingPartitions() {
+        List<Runnable> partitions = new ArrayList<>(pendingPartitions);
+        pendingPartitions.clear();
+        partitions.forEach(Runnable::run);
+    }
+
+    private static Ticket ticket(Long id, TicketStatus status) {
+        Ticket ticket = new Ticket("subject", "description", TicketPriority.HIGH, null, null);
+        ReflectionTestUtils.setField(ticket, "id", id);
+        ticket.setStatus(status);
+        return ticket;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SlaSchedulerTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketAutoCloseJob ticketAutoCloseJob;
+
+    @Mock
+    private SlaSnapshot slaSnapshot;
+
+    @Mock
+    private TicketOutbox ticketOutbox;
+
+    private SlaScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new SlaScheduler(ticketRepository, ticketAutoCloseJob, slaSnapshot, ticketOutbox, 7, true);
+        given(slaSnapshot.isLoaded()).willReturn(true);
+    }
+
+    @Test
+    void runSlaChecker_flagsEverySweptRowWhenAllUpdatesApply() {
+        given(slaSnapshot.sweep(any())).willReturn(new SlaSnapshot.SweepResult(new long[] {1L, 2L}, new long[] {3L}));
+        given(ticketRepository.markSlaBreachedByIds(eq(List.of(3L)), any(), eq(TicketSlaFlag.BREACHED), any()))
+                .willReturn(1);
+        given(ticketRepository.markSlaNearByIds(eq(List.of(1L, 2L)), any(), eq(TicketSlaFlag.OK), eq(TicketSlaFlag.NEAR), any()))
+                .willReturn(2);
+
+        scheduler.runSlaChecker();
+
+        verify(slaSnapshot).markBreached(List.of(3L));
+        verify(slaSnapshot).markNear(List.of(1L, 2L));
+        verify(slaSnapshot, never()).refresh(anyList(), anyList());
+        verify(ticketRepository, never()).findIdsBySlaFlagAndUpdatedAt(any(), any(), any());
+        verify(ticketOutbox).appendAll(argThat(events -> events.size() == 3));
+    }
+
+    @Test
+    void runSlaChecker_reloadsRowsTheBulkUpdateSkipped() {
+        // Ticket 2 was put on hold after the snapshot saw it, so the update leaves it alone
+        given(slaSnapshot.sweep(any())).willReturn(new SlaSnapshot.SweepResult(new long[] {1L, 2L}, new long[0]));
+        given(ticketRepository.markSlaNearByIds(eq(List.of(1L, 2L)), any(), eq(TicketSlaFlag.OK), eq(TicketSlaFlag.NEAR), any()))
+                .willReturn(1);
+        given(ticketRepository.findIdsBySlaFlagAndUpdatedAt(eq(List.of(1L, 2L)), eq(TicketSlaFlag.NEAR), any()))
+                .willReturn(List.of(1L));
+
+        scheduler.runSlaChecker();
+
+        verify(slaSnapshot).markNear(List.of(1L));
+        verify(slaSnapshot).markBreached(List.of());
+        verify(ticketRepository).findSlaSnapshotRowsByIds(eq(List.of(2L)), any());
+        verify(slaSnapshot).refresh(eq(List.of(2L)), anyList());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<TicketEvent>> events = ArgumentCaptor.forClass(Collection.class);
+        verify(ticketOutbox).appendAll(events.capture());
+        assertThat(events.getValue()).extracting(TicketEvent::ticketId).containsExactly(1L);
+    }
+
+    @Test
+    void runSlaChecker_matchesItsOwnWritesAtStoredPrecision() {
+        given(slaSnapshot.sweep(any())).willReturn(new SlaSnapshot.SweepResult(new long[] {1L}, new long[0]));
+
+        scheduler.runSlaChecker();
+
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(ticketRepository).markSlaNearByIds(any(), any(), any(), any(), now.capture());
+        verify(ticketRepository).findIdsBySlaFlagAndUpdatedAt(List.of(1L), TicketSlaFlag.NEAR, now.getValue());
+        assertThat(now.getValue().getNano() % 1_000).isZero();
+    }
+}
@@ -2,10 +2,18 @@ package org.example.backend.domain.ticket.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.example.backend.domain.department.entity.Department;
+import org.example.backend.domain.ticket.entity.SlaPolicy;
 import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketCategory;
 import org.example.backend.domain.ticket.enums.TicketPriority;
 import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -17,7 +25,7 @@ class SlaServiceTest {
 
     @BeforeEach
     void setUp() {
-        slaService = new SlaService();
+        slaService = new SlaService(SlaCalendars.alwaysOpen(), SlaPolicyFixtures.standardPolicies());
         ticket = new Ticket(null, null, TicketPriority.MEDIUM, null, null);
         ReflectionTestUtils.setField(ticket, "priority", TicketPriority.MEDIUM);
     }
@@ -50,7 +58,9 @@ class SlaServiceTest {
     void evaluateFlag_returnNearWhenElapsed80Percent() {
         ReflectionTestUtils.setField(ticket, "priority", TicketPriority.HIGH);
         LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+        ticket.setSlaResponseNearAt(start.plusHours(3).plusMinutes(12));
         ticket.setSlaResponseDeadline(start.plusHours(4));
+        ticket.setSlaResolutionNearAt(start.plusHours(19).plusMinutes(12));
         ticket.setSlaResolutionDeadline(start.plusHours(24));
 
         TicketSlaFlag flag = slaService.evaluateFlag(ticket, start.plusHours(3).plusMinutes(12));
@@ -62,11 +72,254 @@ class SlaServiceTest {
     void evaluateFlag_returnBreachedWhenPastDeadline() {
         ReflectionTestUtils.setField(ticket, "priority", TicketPriority.HIGH);
         LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+        ticket.setSlaResponseNearAt(start.plusHours(3).plusMinutes(12));
         ticket.setSlaResponseDeadline(start.plusHours(4));
+        ticket.setSlaResolutionNearAt(start.plusHours(19).plusMinutes(12));
         ticket.setSlaResolutionDeadline(start.plusHours(24));
 
         TicketSlaFlag flag = slaService.evaluateFlag(ticket, start.plusHours(5));
 
         assertThat(flag).isEqualTo(TicketSlaFlag.BREACHED);
     }
-}
\ No newline at end of file
+
+    @Test
+    void nextFlagChangeAt_returnsNearThresholdWhileOk() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slaService.initializeSla(ticket, base);
+
+        // MEDIUM response is 7h, so NEAR starts once 80% (5h36m) has elapsed
+        assertThat(slaService.nextFlagChangeAt(ticket, base.plusHours(1)))
+                .isEqualTo(base.plusHours(5).plusMinutes(36));
+        assertThat(ticket.getSlaNextCheckAt()).isEqualTo(base.plusHours(5).plusMinutes(36));
+    }
+
+    @Test
+    void nextFlagChangeAt_returnsDeadlineOnceNear() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slaService.initializeSla(ticket, base);
+
+        assertThat(slaService.nextFlagChangeAt(ticket, base.plusHours(6))).isEqualTo(base.plusHours(7));
+    }
+
+    @Test
+    void nextFlagChangeAt_returnsNullOnceBreached() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slaService.initializeSla(ticket, base);
+
+        assertThat(slaService.nextFlagChangeAt(ticket, base.plusHours(8))).isNull();
+    }
+
+    @Test
+    void applyDeadlines_clearsTargetsThePriorityDoesNotHave() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slaService.initializeSla(ticket, base);
+        ticket.setPriority(TicketPriority.IMPROVEMENT);
+
+        slaService.applyDeadlines(ticket, base);
+
+        assertThat(ticket.getSlaResponseDeadline()).isEqualTo(base.plusHours(24));
+        assertThat(ticket.getSlaResolutionNearAt()).isNull();
+        assertThat(ticket.getSlaResolutionDeadline()).isNull();
+    }
+
+    @Test
+    void applyDeadlines_countsOnlyWorkingHoursOfTheReporterDepartment() {
+        SlaCalendars calendars = new SlaCalendars(new SlaCalendarProperties(
+                "24x7",
+                Map.of("office", new SlaCalendarProperties.Definition(
+                        List.of("MON-FRI 08:00-17:00"), List.of("2025-01-06"))),
+                Map.of("IT", "office")
+        ));
+        slaService = new SlaService(calendars, SlaPolicyFixtures.standardPolicies());
+        Department it = new Department("IT", "Information Technology", null);
+        Ticket officeTicket = new Ticket("subject", "description", TicketPriority.CRITICAL, null,
+                new User("alice", "alice@example.com", "hash", "Alice", UserRole.END_USER, it));
+        // Friday 16:00; Saturday, Sunday and the Monday holiday do not count
+        LocalDateTime friday = LocalDateTime.of(2025, 1, 3, 16, 0);
+
+        slaService.initializeSla(officeTicket, friday);
+
+        // CRITICAL response 4h: 1h on Friday, 3h on Tuesday; NEAR after 3h12m
+        assertThat(officeTicket.getSlaResponseNearAt()).isEqualTo(LocalDateTime.of(2025, 1, 7, 10, 12));
+        assertThat(officeTicket.getSlaResponseDeadline()).isEqualTo(LocalDateTime.of(2025, 1, 7, 11, 0));
+        // CRITICAL resolution 9h: 1h on Friday, 8h on Tuesday
+        assertThat(officeTicket.getSlaResolutionDeadline()).isEqualTo(LocalDateTime.of(2025, 1, 7, 16, 0));
+        assertThat(slaService.evaluateFlag(officeTicket, LocalDateTime.of(2025, 1, 6, 23, 0)))
+                .isEqualTo(TicketSlaFlag.OK);
+        assertThat(officeTicket.getSlaNextCheckAt()).isEqualTo(LocalDateTime.of(2025, 1, 7, 10, 12));
+
+        // Reporters outside a mapped department keep the round-the-clock default
+        slaService.initializeSla(ticket, friday);
+        assertThat(ticket.getSlaResponseDeadline()).isEqualTo(friday.plusHours(7));
+    }
+
+    @Test
+    void applyDeadlines_usesTheMostSpecificPolicy() {
+        Department it = new Department("IT", "Information Technology", null);
+        Department hr = new Department("HR", "Human Resources", null);
+        ReflectionTestUtils.setField(it, "id", 1L);
+        ReflectionTestUtils.setField(hr, "id", 2L);
+        SlaPolicies policies = new SlaPolicies();
+        policies.replace(List.of(
+                new SlaPolicy(TicketPriority.HIGH, null, null, 360, 1080),
+                new SlaPolicy(TicketPriority.HIGH, TicketCategory.SECURITY, null, 60, 240),
+                new SlaPolicy(TicketPriority.HIGH, null, it, 120, null),
+                new SlaPolicy(TicketPriority.HIGH, TicketCategory.SECURITY, it, 30, 120)
+        ));
+        slaService = new SlaService(SlaCalendars.alwaysOpen(), policies);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        assertThat(responseDeadline(TicketCategory.SECURITY, it, base)).isEqualTo(base.plusMinutes(30));
+        assertThat(responseDeadline(TicketCategory.NETWORK, it, base)).isEqualTo(base.plusMinutes(120));
+        assertThat(responseDeadline(TicketCategory.SECURITY, hr, base)).isEqualTo(base.plusMinutes(60));
+        assertThat(responseDeadline(TicketCategory.NETWORK, hr, base)).isEqualTo(base.plusMinutes(360));
+        assertThat(responseDeadline(TicketCategory.NETWORK, null, base)).isEqualTo(base.plusMinutes(360));
+
+        // Priorities without any policy get no targets
+        ticket.setPriority(TicketPriority.LOW);
+        slaService.applyDeadlines(ticket, base);
+        assertThat(ticket.getSlaResponseDeadline()).isNull();
+        assertThat(ticket.getSlaNextCheckAt()).isNull();
+    }
+
+    @Test
+    void replacingPoliciesAffectsOnlyLaterDeadlines() {
+        SlaPolicies policies = SlaPolicyFixtures.standardPolicies();
+        slaService = new SlaService(SlaCalendars.alwaysOpen(), policies);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slaService.initializeSla(ticket, base);
+
+        policies.replace(List.of(new SlaPolicy(TicketPriority.MEDIUM, null, null, 60, null)));
+
+        assertThat(ticket.getSlaResponseDeadline()).isEqualTo(base.plusHours(7));
+        slaService.applyDeadlines(ticket, base);
+        assertThat(ticket.getSlaResponseDeadline()).isEqualTo(base.plusHours(1));
+        assertThat(ticket.getSlaResolutionDeadline()).isNull();
+    }
+
+    @Test
+    void pausedClockFreezesFlagAndResumeShiftsRemainingThresholds() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slaService.initializeSla(ticket, base);
+
+        slaService.pauseSla(ticket, base.plusHours(2));
+
+        assertThat(ticket.getSlaNextCheckAt()).isNull();
+        assertThat(slaService.evaluateFlag(ticket, base.plusDays(3))).isEqualTo(TicketSlaFlag.OK);
+        assertThat(slaService.nextFlagChangeAt(ticket, base.plusDays(3))).isNull();
+
+        slaService.resumeSla(ticket, base.plusHours(5));
+
+        // MEDIUM response 7h: 2h before the hold, 5h left after resuming
+        assertThat(ticket.getSlaPausedAt()).isNull();
+        assertThat(ticket.getSlaPausedMillis()).isEqualTo(Duration.ofHours(3).toMillis());
+        assertThat(ticket.getSlaResponseDeadline()).isEqualTo(base.plusHours(10));
+        assertThat(ticket.getSlaResolutionDeadline()).isEqualTo(base.plusHours(29));
+        assertThat(ticket.getSlaNextCheckAt()).isEqualTo(base.plusHours(8).plusMinutes(36));
+    }
+
+    @Test
+    void resumeSla_keepsThresholdsPassedBeforeThePause() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slaService.initializeSla(ticket, base);
+        LocalDateTime nearAt = ticket.getSlaResponseNearAt();
+
+        slaService.pauseSla(ticket, base.plusHours(6));
+        slaService.resumeSla(ticket, base.plusHours(8));
+        slaService.pauseSla(ticket, base.plusHours(8).plusMinutes(30));
+        slaService.resumeSla(ticket, base.plusHours(9));
+
+        // Response was NEAR when paused; it stays NEAR instead of breaching during the hold
+        assertThat(ticket.getSlaResponseNearAt()).isEqualTo(nearAt);
+        assertThat(ticket.getSlaResponseDeadline()).isEqualTo(base.plusHours(9).plusMinutes(30));
+        assertThat(slaService.evaluateFlag(ticket, base.plusHours(9))).isEqualTo(TicketSlaFlag.NEAR);
+        assertThat(ticket.getSlaPausedMillis()).isEqualTo(Duration.ofMinutes(150).toMillis());
+    }
+
+    @Test
+    void applyDeadlines_whilePausedKeepsTheHoldServedSoFar() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slaService.initializeSla(ticket, base);
+        slaService.pauseSla(ticket, base.plusHours(1));
+
+        // Priority change two hours into the hold restarts the clock, still paused
+        slaService.applyDeadlines(ticket, base.plusHours(3));
+        slaService.resumeSla(ticket, base.plusHours(4));
+
+        assertThat(ticket.getSlaPausedMillis()).isEqualTo(Duration.ofHours(3).toMillis());
+        assertThat(ticket.getSlaResponseDeadline()).isEqualTo(base.plusHours(11));
+    }
+
+    @Test
+    void resumeSla_shiftsByRemainingWorkingTime() {
+        SlaCalendars calendars = new SlaCalendars(new SlaCalendarProperties(
+                "24x7",
+                Map.of("office", new SlaCalendarProperties.Definition(List.of("MON-FRI 08:00-17:00"), List.of())),
+                Map.of("IT", "office")
+        ));
+        slaService = new SlaService(calendars, SlaPolicyFixtures.standardPolicies());
+        Department it = new Department("IT", "Information Technology", null);
+        Ticket officeTicket = new Ticket("subject", "description", TicketPriority.CRITICAL, null,
+                new User("alice", "alice@example.com", "hash", "Alice", UserRole.END_USER, it));
+        LocalDateTime thursday = LocalDateTime.of(2025, 1, 2, 9, 0);
+        slaService.initializeSla(officeTicket, thursday);
+
+        slaService.pauseSla(officeTicket, thursday.plusHours(1));
+        slaService.resumeSla(officeTicket, LocalDateTime.of(2025, 1, 3, 16, 0));
+
+        // CRITICAL response 4h: 1h before the hold, 3h left = 1h on Friday and 2h on Monday
+        assertThat(officeTicket.getSlaResponseDeadline()).isEqualTo(LocalDateTime.of(2025, 1, 6, 10, 0));
+        assertThat(officeTicket.getSlaPausedMillis()).isEqualTo(Duration.ofHours(30).toMillis());
+    }
+
+    @Test
+    void evaluateFlag_primitiveMatchesRatioRuleAroundThresholds() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (TicketPriority priority : TicketPriority.values()) {
+            ticket.setPriority(priority);
+            slaService.initializeSla(ticket, start);
+            for (long minute = 0; minute <= 46 * 60; minute += 7) {
+                LocalDateTime now = start.plusMinutes(minute);
+                TicketSlaFlag expected = ratioFlag(start, now);
+
+                assertThat(slaService.evaluateFlag(ticket, now)).as("%s at +%dm", priority, minute).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void evaluateFlag_primitiveTreatsMissingDeadlineAsOk() {
+        long now = SlaTimeCalculator.toEpochMillis(LocalDateTime.of(2025, 1, 1, 8, 0));
+
+        TicketSlaFlag flag = slaService.evaluateFlag(
+                SlaService.NO_DEADLINE, SlaService.NO_DEADLINE, SlaService.NO_DEADLINE, SlaService.NO_DEADLINE, now);
+
+        assertThat(flag).isEqualTo(TicketSlaFlag.OK);
+    }
+
+    private LocalDateTime responseDeadline(TicketCategory category, Department department, LocalDateTime base) {
+        User reporter = new User("reporter", "reporter@example.com", "hash", "Reporter", UserRole.END_USER, department);
+        Ticket policyTicket = new Ticket("subject", "description", TicketPriority.HIGH, category, reporter);
+        slaService.initializeSla(policyTicket, base);
+        return policyTicket.getSlaResponseDeadline();
+    }
+
+    private TicketSlaFlag ratioFlag(LocalDateTime start, LocalDateTime now) {
+        double ratio = Math.max(ratio(start, ticket.getSlaResponseDeadline(), now),
+                ratio(start, ticket.getSlaResolutionDeadline(), now));
+        if (ratio >= 1.0) {
+            return TicketSlaFlag.BREACHED;
+        }
+        return ratio >= 0.8 ? TicketSlaFlag.NEAR : TicketSlaFlag.OK;
+    }
+
+    private double ratio(LocalDateTime start, LocalDateTime deadline, LocalDateTime now) {
+        if (deadline == null) {
+            return 0.0;
+        }
+        if (!now.isAfter(start)) {
+            return 0.0;
+        }
+        return (double) Duration.between(start, now).toMillis() / Duration.between(start, deadline).toMillis();
+    }
+}
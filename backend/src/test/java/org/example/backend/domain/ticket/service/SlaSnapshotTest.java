@@ -0,0 +1,121 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.repository.SlaSnapshotView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SlaSnapshotTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    private SlaService slaService;
+    private SlaSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        slaService = new SlaService(SlaCalendars.alwaysOpen(), SlaPolicyFixtures.standardPolicies());
+        snapshot = new SlaSnapshot(slaService, 2);
+    }
+
+    @Test
+    void sweep_reportsOnlyTicketsWhoseFlagAdvances() {
+        // CRITICAL response 4h (near at 3h12m), LOW response 9h (near at 7h12m)
+        snapshot.upsert(ticket(1L, TicketPriority.CRITICAL, TicketSlaFlag.OK));
+        snapshot.upsert(ticket(2L, TicketPriority.CRITICAL, TicketSlaFlag.NEAR));
+        snapshot.upsert(ticket(3L, TicketPriority.LOW, TicketSlaFlag.OK));
+        snapshot.upsert(ticket(4L, TicketPriority.HIGH, TicketSlaFlag.OK));
+        snapshot.upsert(ticket(5L, TicketPriority.CRITICAL, TicketSlaFlag.OK));
+
+        SlaSnapshot.SweepResult result = snapshot.sweep(START.plusHours(3).plusMinutes(30));
+
+        assertThat(result.near()).containsExactlyInAnyOrder(1L, 5L);
+        assertThat(result.breached()).isEmpty();
+
+        result = snapshot.sweep(START.plusHours(5));
+
+        assertThat(result.breached()).containsExactlyInAnyOrder(1L, 2L, 5L);
+        assertThat(result.near()).containsExactly(4L);
+    }
+
+    @Test
+    void markingAndRemovingRowsKeepsColumnsConsistent() {
+        snapshot.upsert(ticket(1L, TicketPriority.CRITICAL, TicketSlaFlag.OK));
+        snapshot.upsert(ticket(2L, TicketPriority.CRITICAL, TicketSlaFlag.OK));
+        snapshot.upsert(ticket(3L, TicketPriority.CRITICAL, TicketSlaFlag.OK));
+
+        snapshot.remove(1L);
+        snapshot.markNear(List.of(3L));
+        snapshot.markBreached(List.of(2L));
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        SlaSnapshot.SweepResult result = snapshot.sweep(START.plusHours(3).plusMinutes(30));
+        assertThat(result.near()).isEmpty();
+        assertThat(snapshot.sweep(START.plusHours(4)).breached()).containsExactly(3L);
+    }
+
+    @Test
+    void refresh_replacesRowsWithDatabaseStateAndDropsUntrackedOnes() {
+        snapshot.upsert(ticket(1L, TicketPriority.CRITICAL, TicketSlaFlag.OK));
+        snapshot.upsert(ticket(2L, TicketPriority.CRITICAL, TicketSlaFlag.OK));
+        Ticket breached = ticket(1L, TicketPriority.CRITICAL, TicketSlaFlag.BREACHED);
+
+        // Ticket 1 was breached elsewhere, ticket 2 left the tracked statuses
+        snapshot.refresh(List.of(1L, 2L), List.of(view(breached)));
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        SlaSnapshot.SweepResult result = snapshot.sweep(START.plusHours(5));
+        assertThat(result.near()).isEmpty();
+        assertThat(result.breached()).isEmpty();
+    }
+
+    private static SlaSnapshotView view(Ticket ticket) {
+        return new SlaSnapshotView() {
+            @Override
+            public Long getId() {
+                return ticket.getId();
+            }
+
+            @Override
+            public LocalDateTime getSlaResponseNearAt() {
+                return ticket.getSlaResponseNearAt();
+            }
+
+            @Override
+            public LocalDateTime getSlaResponseDeadline() {
+                return ticket.getSlaResponseDeadline();
+            }
+
+            @Override
+            public LocalDateTime getSlaResolutionNearAt() {
+                return ticket.getSlaResolutionNearAt();
+            }
+
+            @Override
+            public LocalDateTime getSlaResolutionDeadline() {
+                return ticket.getSlaResolutionDeadline();
+            }
+
+            @Override
+            public TicketSlaFlag getSlaFlag() {
+                return ticket.getSlaFlag();
+            }
+        };
+    }
+
+    private Ticket ticket(Long id, TicketPriority priority, TicketSlaFlag flag) {
+        Ticket ticket = new Ticket("subject", "description", priority, TicketCategory.SOFTWARE, null);
+        ReflectionTestUtils.setField(ticket, "id", id);
+        slaService.initializeSla(ticket, START);
+        ticket.setSlaFlag(flag);
+        return ticket;
+    }
+}
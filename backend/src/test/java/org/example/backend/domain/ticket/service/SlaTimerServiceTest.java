@@ -0,0 +1,117 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.ticket.entity.Ticket;
+import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketPriority;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class SlaTimerServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private SlaService slaService;
+
+    @Mock
+    private SlaSnapshot slaSnapshot;
+
+    @Mock
+    private TicketOutbox ticketOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SlaTimerService timerService;
+
+    @BeforeEach
+    void setUp() {
+        timerService = new SlaTimerService(ticketRepository, slaService, slaSnapshot, ticketOutbox, transactionManager, 1);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void track_schedulesTheTimerOnlyOnceTheTransactionCommits() throws InterruptedException {
+        timerService.track(dueTicket(1L));
+
+        fireAfterATick();
+        verify(ticketRepository, never()).findAllById(any());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        fireAfterATick();
+
+        verify(ticketRepository).findAllById(List.of(1L));
+    }
+
+    @Test
+    void track_leavesNoTimerWhenTheTransactionRollsBack() throws InterruptedException {
+        timerService.track(dueTicket(1L));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        fireAfterATick();
+
+        verify(ticketRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void cancel_keepsTheTimerWhenTheTransactionRollsBack() throws InterruptedException {
+        timerService.track(dueTicket(1L));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        timerService.cancel(1L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        fireAfterATick();
+
+        verify(ticketRepository).findAllById(List.of(1L));
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    private void fireAfterATick() throws InterruptedException {
+        Thread.sleep(5);
+        timerService.fireDueTimers();
+    }
+
+    private static Ticket dueTicket(Long id) {
+        Ticket ticket = new Ticket("subject", "description", TicketPriority.HIGH, TicketCategory.SOFTWARE, null);
+        ReflectionTestUtils.setField(ticket, "id", id);
+        ticket.setStatus(TicketStatus.NEW);
+        ticket.setSlaNextCheckAt(LocalDateTime.now().minusMinutes(1));
+        return ticket;
+    }
+}
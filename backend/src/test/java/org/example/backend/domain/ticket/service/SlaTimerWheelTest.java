@@ -0,0 +1,72 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SlaTimerWheelTest {
+
+    private static final long TICK = 100;
+    private static final long START = 1_700_000_000_000L;
+
+    private SlaTimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new SlaTimerWheel(TICK, START);
+    }
+
+    @Test
+    void advance_firesTimerOnTheTickOfItsExpiration() {
+        wheel.schedule(1L, START + 950);
+
+        assertThat(wheel.advance(START + 900)).isEmpty();
+        assertThat(wheel.advance(START + 1_000)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_cascadesTimersScheduledHoursAhead() {
+        long fourHours = 4 * 60 * 60 * 1000L;
+        wheel.schedule(1L, START + fourHours);
+        wheel.schedule(2L, START + fourHours + 30_000);
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = START; now < START + fourHours; now += 60_000) {
+            fired.addAll(wheel.advance(now));
+        }
+        assertThat(fired).isEmpty();
+
+        assertThat(wheel.advance(START + fourHours)).containsExactly(1L);
+        assertThat(wheel.advance(START + fourHours + 29_900)).isEmpty();
+        assertThat(wheel.advance(START + fourHours + 30_000)).containsExactly(2L);
+    }
+
+    @Test
+    void schedule_replacesPreviousExpirationForSameTicket() {
+        wheel.schedule(1L, START + 500);
+        wheel.schedule(1L, START + 5_000);
+
+        assertThat(wheel.advance(START + 1_000)).isEmpty();
+        assertThat(wheel.advance(START + 5_000)).containsExactly(1L);
+    }
+
+    @Test
+    void schedule_firesOverdueTimerOnNextTick() {
+        wheel.schedule(1L, START - 60_000);
+
+        assertThat(wheel.advance(START + TICK)).containsExactly(1L);
+    }
+
+    @Test
+    void cancel_removesPendingTimer() {
+        wheel.schedule(1L, START + 500);
+        wheel.cancel(1L);
+
+        assertThat(wheel.advance(START + 1_000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.enums.TicketStatus;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TicketAutoCloseJobTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SlaTimerService slaTimerService;
+
+    @Mock
+    private TicketOutbox ticketOutbox;
+
+    private TicketAutoCloseJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new TicketAutoCloseJob(ticketRepository, jdbcTemplate, transactionManager, slaTimerService, ticketOutbox, 2);
+    }
+
+    @Test
+    void run_closesInKeysetChunksAndBatchesHistory() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(7);
+        given(ticketRepository.lockAutoCloseCandidates(anyString(), eq(threshold), eq(0L), eq(2)))
+                .willReturn(rows(new Object[] {10L, 3L}, new Object[] {11L, 4L}));
+        given(ticketRepository.lockAutoCloseCandidates(anyString(), eq(threshold), eq(11L), eq(2)))
+                .willReturn(rows(new Object[] {15L, 3L}));
+        given(ticketRepository.closeResolved(anyList(), any(), any(), any(), any()))
+                .willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        int closed = job.run(threshold, "Auto closed by system");
+
+        assertThat(closed).isEqualTo(3);
+        verify(ticketRepository).closeResolved(
+                eq(List.of(10L, 11L)),
+                eq(TicketStatus.RESOLVED),
+                eq(TicketStatus.CLOSED),
+                eq(TicketSlaFlag.OK),
+                any(LocalDateTime.class)
+        );
+        verify(ticketRepository).closeResolved(
+                eq(List.of(15L)),
+                eq(TicketStatus.RESOLVED),
+                eq(TicketStatus.CLOSED),
+                eq(TicketSlaFlag.OK),
+                any(LocalDateTime.class)
+        );
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> history = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), history.capture());
+        Object[] firstRow = history.getAllValues().get(0).get(0);
+        assertThat(firstRow[0]).isEqualTo(10L);
+        assertThat(firstRow[1]).isEqualTo("RESOLVED");
+        assertThat(firstRow[2]).isEqualTo("CLOSED");
+        assertThat(firstRow[3]).isEqualTo(3L);
+        assertThat(firstRow[4]).isEqualTo("Auto closed by system");
+    }
+
+    @Test
+    void run_returnsZeroWhenNothingToClose() {
+        given(ticketRepository.lockAutoCloseCandidates(anyString(), any(), eq(0L), anyInt()))
+                .willReturn(List.of());
+
+        assertThat(job.run(LocalDateTime.now(), "Auto closed by system")).isZero();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
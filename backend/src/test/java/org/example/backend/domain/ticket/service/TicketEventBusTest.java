@@ -0,0 +1,101 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.example.backend.domain.auth.service.AuthUserDetails;
+import org.example.backend.domain.department.entity.Department;
+import org.example.backend.domain.ticket.enums.TicketEventType;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TicketEventBusTest {
+
+    private final Queue<Runnable> pendingDeliveries = new ArrayDeque<>();
+    private TicketEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new TicketEventBus(8, pendingDeliveries::add);
+    }
+
+    @Test
+    void dispatch_filtersEventsByViewerVisibility() {
+        List<TicketEvent> reporterEvents = new ArrayList<>();
+        List<TicketEvent> otherEvents = new ArrayList<>();
+        List<TicketEvent> agentEvents = new ArrayList<>();
+        bus.subscribe(principal(1L, UserRole.END_USER), reporterEvents::add);
+        bus.subscribe(principal(2L, UserRole.END_USER), otherEvents::add);
+        bus.subscribe(principal(3L, UserRole.AGENT), agentEvents::add);
+
+        bus.dispatch(commentEvent(1L, false));
+        bus.dispatch(commentEvent(1L, true));
+        bus.dispatch(TicketEvent.slaFlagChanged(10L, null, TicketSlaFlag.NEAR));
+        bus.dispatch(TicketEvent.resync());
+        deliverAll();
+
+        assertThat(reporterEvents).extracting(TicketEvent::type)
+                .containsExactly(TicketEventType.COMMENT_ADDED, TicketEventType.RESYNC);
+        assertThat(reporterEvents.get(0).internal()).isFalse();
+        assertThat(otherEvents).extracting(TicketEvent::type).containsExactly(TicketEventType.RESYNC);
+        assertThat(agentEvents).hasSize(4);
+    }
+
+    @Test
+    void dispatch_replacesBacklogWithResyncWhenBufferOverflows() {
+        TicketEventBus smallBus = new TicketEventBus(3, pendingDeliveries::add);
+        List<TicketEvent> events = new ArrayList<>();
+        smallBus.subscribe(principal(3L, UserRole.AGENT), events::add);
+
+        // Nothing is delivered until the pending drain runs, so the fourth event overflows the buffer of 3
+        for (long id = 1; id <= 4; id++) {
+            smallBus.dispatch(TicketEvent.slaFlagChanged(id, null, TicketSlaFlag.NEAR));
+        }
+        assertThat(pendingDeliveries).hasSize(1);
+        deliverAll();
+        smallBus.dispatch(TicketEvent.slaFlagChanged(5L, null, TicketSlaFlag.BREACHED));
+        deliverAll();
+
+        assertThat(events).extracting(TicketEvent::type)
+                .containsExactly(TicketEventType.RESYNC, TicketEventType.SLA_FLAG_CHANGED);
+        assertThat(events.get(1).ticketId()).isEqualTo(5L);
+    }
+
+    @Test
+    void failingDeliveryClosesTheSubscription() {
+        TicketEventBus.Subscription subscription = bus.subscribe(principal(3L, UserRole.AGENT), event -> {
+            throw new IOException("Broken pipe");
+        });
+
+        bus.dispatch(TicketEvent.resync());
+        deliverAll();
+
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(bus.subscriberCount()).isZero();
+    }
+
+    private void deliverAll() {
+        while (!pendingDeliveries.isEmpty()) {
+            pendingDeliveries.poll().run();
+        }
+    }
+
+    private static TicketEvent commentEvent(Long reporterId, boolean internal) {
+        return new TicketEvent(TicketEventType.COMMENT_ADDED, 10L, reporterId, "ITSM-2025-0010", null, null,
+                null, null, 5L, internal, null);
+    }
+
+    private static AuthUserDetails principal(Long id, UserRole role) {
+        User user = new User("user" + id, "mail" + id + "@example.com", "pwd", "User" + id, role, (Department) null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return AuthUserDetails.from(user);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import org.example.backend.domain.ticket.entity.TicketNumberSequence;
+import org.example.backend.domain.ticket.repository.TicketNumberSequenceRepository;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TicketNumberGeneratorTest {
+
+    @Mock
+    private TicketNumberSequenceRepository sequenceRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketNumberGenerator generator;
+    private int year;
+
+    @BeforeEach
+    void setUp() {
+        generator = new TicketNumberGenerator(sequenceRepository, ticketRepository, transactionManager, 2);
+        year = Year.now().getValue();
+    }
+
+    @Test
+    void nextTicketNumber_servesNumbersFromReservedBlock() {
+        TicketNumberSequence sequence = new TicketNumberSequence(year, 41);
+        given(sequenceRepository.findForUpdate(year)).willReturn(Optional.of(sequence));
+
+        String first = generator.nextTicketNumber();
+        String second = generator.nextTicketNumber();
+        String third = generator.nextTicketNumber();
+
+        assertThat(first).isEqualTo("ITSM-%d-0041".formatted(year));
+        assertThat(second).isEqualTo("ITSM-%d-0042".formatted(year));
+        assertThat(third).isEqualTo("ITSM-%d-0043".formatted(year));
+        assertThat(sequence.getNextValue()).isEqualTo(45);
+        verify(sequenceRepository, times(2)).findForUpdate(year);
+    }
+
+    @Test
+    void nextTicketNumber_seedsNewYearAfterHighestExistingNumber() {
+        given(sequenceRepository.findForUpdate(year)).willReturn(Optional.empty());
+        given(ticketRepository.findHighestTicketNumbers(eq("ITSM-%d-%%".formatted(year)), any()))
+                .willReturn(List.of("ITSM-%d-0007".formatted(year)));
+        given(sequenceRepository.saveAndFlush(any(TicketNumberSequence.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(generator.nextTicketNumber()).isEqualTo("ITSM-%d-0008".formatted(year));
+    }
+}
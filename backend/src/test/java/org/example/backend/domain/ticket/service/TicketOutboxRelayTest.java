@@ -0,0 +1,148 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.example.backend.domain.ticket.entity.TicketOutboxEntry;
+import org.example.backend.domain.ticket.enums.TicketEventType;
+import org.example.backend.domain.ticket.enums.TicketSlaFlag;
+import org.example.backend.domain.ticket.repository.TicketOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TicketOutboxRelayTest {
+
+    @Mock
+    private TicketOutboxRepository ticketOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void relay_readsFromTheNewestEntryOnwardsWithoutDeleting() {
+        given(ticketOutboxRepository.findMaxId()).willReturn(10L);
+        given(ticketOutboxRepository.findAfter(eq(10L), any(Pageable.class)))
+                .willReturn(List.of(entry(11L, 1L), entry(12L, 2L)));
+        given(ticketOutboxRepository.findAfter(eq(12L), any(Pageable.class))).willReturn(List.of(entry(13L, 3L)));
+        List<TicketEvent> received = new ArrayList<>();
+        List<TicketEvent> alsoReceived = new ArrayList<>();
+        TicketOutboxRelay relay = relay(List.of(received::addAll, alsoReceived::addAll), 2, 60_000);
+
+        relay.relay();
+        relay.relay();
+
+        assertThat(received).extracting(TicketEvent::ticketId).containsExactly(1L, 2L, 3L);
+        assertThat(received.get(0).type()).isEqualTo(TicketEventType.SLA_FLAG_CHANGED);
+        assertThat(received.get(0).slaFlag()).isEqualTo(TicketSlaFlag.NEAR);
+        assertThat(alsoReceived).isEqualTo(received);
+        verify(ticketOutboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void relay_deliversEntriesThatCommitAfterAHigherId() {
+        given(ticketOutboxRepository.findMaxId()).willReturn(0L);
+        given(ticketOutboxRepository.findAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(entry(1L, 1L), entry(3L, 3L)));
+        given(ticketOutboxRepository.findAllById(Set.of(2L))).willReturn(List.of(entry(2L, 2L)));
+        List<TicketEvent> received = new ArrayList<>();
+        TicketOutboxRelay relay = relay(List.of(received::addAll), 10, 60_000);
+
+        relay.relay();
+        relay.relay();
+        relay.relay();
+
+        assertThat(received).extracting(TicketEvent::ticketId).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void relay_forgetsGapsAfterTheTimeout() {
+        given(ticketOutboxRepository.findMaxId()).willReturn(0L);
+        given(ticketOutboxRepository.findAfter(eq(0L), any(Pageable.class))).willReturn(List.of(entry(2L, 2L)));
+        given(ticketOutboxRepository.findAllById(Set.of(1L))).willReturn(List.of());
+        TicketOutboxRelay relay = relay(List.of(events -> { }), 10, 0);
+
+        relay.relay();
+        relay.relay();
+        relay.relay();
+        relay.relay();
+
+        verify(ticketOutboxRepository).findAllById(any());
+    }
+
+    @Test
+    void relay_isolatesAnEventThatASinkKeepsRejecting() {
+        given(ticketOutboxRepository.findMaxId()).willReturn(0L);
+        given(ticketOutboxRepository.findAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(entry(1L, 1L), entry(2L, 2L), entry(3L, 3L)));
+        given(ticketOutboxRepository.findAfter(eq(3L), any(Pageable.class))).willReturn(List.of(entry(4L, 4L)));
+        List<TicketEvent> healthy = new ArrayList<>();
+        List<TicketEvent> picky = new ArrayList<>();
+        List<Integer> attemptsOnPoison = new ArrayList<>();
+        TicketEventSink pickySink = events -> {
+            if (events.stream().anyMatch(event -> event.ticketId() == 2L)) {
+                attemptsOnPoison.add(events.size());
+                throw new IllegalStateException("cannot index ticket 2");
+            }
+            picky.addAll(events);
+        };
+        TicketOutboxRelay relay = relay(List.of(healthy::addAll, pickySink), 10, 60_000);
+
+        for (int poll = 0; poll < 6; poll++) {
+            relay.relay();
+        }
+
+        assertThat(healthy).extracting(TicketEvent::ticketId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(picky).extracting(TicketEvent::ticketId).containsExactly(1L, 3L, 4L);
+        // Once in the batch, then alone until max attempts
+        assertThat(attemptsOnPoison).containsExactly(3, 1, 1, 1);
+    }
+
+    @Test
+    void relay_keepsItsCursorWhenTheOutboxCannotBeRead() {
+        given(ticketOutboxRepository.findMaxId()).willReturn(5L);
+        given(ticketOutboxRepository.findAfter(anyLong(), any(Pageable.class)))
+                .willThrow(new IllegalStateException("database unavailable"))
+                .willReturn(List.of(entry(6L, 6L)));
+        List<TicketEvent> received = new ArrayList<>();
+        TicketOutboxRelay relay = relay(List.of(received::addAll), 10, 60_000);
+
+        relay.relay();
+        relay.relay();
+        relay.relay();
+
+        assertThat(received).extracting(TicketEvent::ticketId).containsExactly(6L);
+    }
+
+    @Test
+    void outboxEntriesRoundTripEvents() {
+        TicketEvent event = new TicketEvent(TicketEventType.COMMENT_ADDED, 7L, 3L, "ITSM-2025-0007", null, null,
+                null, null, 11L, true, LocalDateTime.of(2025, 1, 2, 9, 0));
+
+        assertThat(TicketOutbox.toEvent(TicketOutbox.toEntry(event))).isEqualTo(event);
+    }
+
+    private TicketOutboxRelay relay(List<TicketEventSink> sinks, int batchSize, long gapTimeoutMs) {
+        return new TicketOutboxRelay(ticketOutboxRepository, sinks, transactionManager, batchSize, 3, gapTimeoutMs, 60);
+    }
+
+    private static TicketOutboxEntry entry(Long id, Long ticketId) {
+        TicketOutboxEntry entry = TicketOutbox.toEntry(TicketEvent.slaFlagChanged(ticketId, null, TicketSlaFlag.NEAR));
+        ReflectionTestUtils.setField(entry, "id", id);
+        return entry;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TicketSearchIndexTest {
+
+    private TicketSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TicketSearchIndex();
+        index.putTicket(1L, 10L, "Printer offline", "The printer on floor 3 does not respond");
+        index.putTicket(2L, 20L, "VPN drops every hour", "Connection resets, printer queue is unaffected");
+        index.putTicket(3L, 10L, "Máy in bị kẹt giấy", "Đã thử khởi động lại");
+    }
+
+    @Test
+    void search_ranksSubjectMatchesFirst() {
+        assertThat(index.search("printer", null, true, 10))
+                .extracting(TicketSearchIndex.Hit::ticketId)
+                .containsExactly(1L, 2L);
+        assertThat(index.search("printer", null, true, 1)).hasSize(1);
+    }
+
+    @Test
+    void search_foldsAccentsAndCase() {
+        assertThat(index.search("MAY IN", null, true, 10))
+                .extracting(TicketSearchIndex.Hit::ticketId)
+                .containsExactly(3L);
+        assertThat(index.search("da thu", null, true, 10))
+                .extracting(TicketSearchIndex.Hit::ticketId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    void search_hidesInternalCommentsAndOtherReporters() {
+        index.putComment(1L, 100L, "Vendor escalation pending", true);
+        index.putComment(2L, 101L, "Vendor replaced the router", false);
+
+        assertThat(index.search("vendor", null, true, 10))
+                .extracting(TicketSearchIndex.Hit::ticketId)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("vendor", null, false, 10))
+                .extracting(TicketSearchIndex.Hit::ticketId)
+                .containsExactly(2L);
+        assertThat(index.search("vendor", 10L, false, 10)).isEmpty();
+        assertThat(index.search("printer", 10L, false, 10))
+                .extracting(TicketSearchIndex.Hit::ticketId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void updatesAreIncrementalAndIdempotent() {
+        index.putComment(2L, 101L, "Router replaced", false);
+        index.putComment(2L, 101L, "Router replaced", false);
+        index.putTicket(1L, 10L, "Scanner offline", "The scanner on floor 3 does not respond");
+
+        assertThat(index.search("printer", null, true, 10))
+                .extracting(TicketSearchIndex.Hit::ticketId)
+                .containsExactly(2L);
+        assertThat(index.search("router", null, true, 10)).hasSize(1);
+
+        index.remove(2L);
+
+        assertThat(index.search("router", null, true, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.example.backend.domain.ticket.repository.TicketCommentRepository;
+import org.example.backend.domain.ticket.repository.TicketCommentSearchSource;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.example.backend.domain.ticket.repository.TicketSearchSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class TicketSearchServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketCommentRepository ticketCommentRepository;
+
+    @Test
+    void catchUp_readsOnlyRowsPastWhatTheIndexAlreadyHolds() {
+        TicketSearchService service = new TicketSearchService(ticketRepository, ticketCommentRepository, 2);
+        given(ticketRepository.findSearchSources(anyLong(), any(Pageable.class))).willReturn(
+                List.of(ticket(1L), ticket(2L)),
+                List.of(ticket(3L)),
+                List.of(ticket(7L)));
+        given(ticketCommentRepository.findSearchSources(anyLong(), any(Pageable.class))).willReturn(
+                List.of(new TicketCommentSearchSource(5L, 1L, "Printer replaced", false)),
+                List.of());
+
+        service.warmUp();
+        // Ticket 7 was created on another node, or its event never reached this one
+        service.catchUp();
+
+        verify(ticketRepository).findSearchSources(0L, PageRequest.of(0, 2));
+        verify(ticketRepository).findSearchSources(2L, PageRequest.of(0, 2));
+        verify(ticketRepository).findSearchSources(3L, PageRequest.of(0, 2));
+        verify(ticketCommentRepository).findSearchSources(eq(5L), any(Pageable.class));
+    }
+
+    private static TicketSearchSource ticket(Long id) {
+        return new TicketSearchSource(id, 10L, "Printer offline " + id, "Floor 3");
+    }
+}
@@ -2,18 +2,21 @@ package org.example.backend.domain.ticket.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 import org.example.backend.domain.auth.service.AuthUserDetails;
 import org.example.backend.domain.department.entity.Department;
 import org.example.backend.domain.ticket.entity.Ticket;
 import org.example.backend.domain.ticket.enums.TicketCategory;
+import org.example.backend.domain.ticket.enums.TicketEventType;
 import org.example.backend.domain.ticket.enums.TicketPriority;
 import org.example.backend.domain.ticket.enums.TicketStatus;
 import org.example.backend.domain.ticket.repository.TicketRepository;
@@ -23,10 +26,12 @@ import org.example.backend.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class TicketServiceTest {
@@ -46,9 +51,21 @@ class TicketServiceTest {
     @Mock
     private TicketHistoryService ticketHistoryService;
 
+    @Mock
+    private CommentService commentService;
+
     @Mock
     private SlaService slaService;
 
+    @Mock
+    private SlaTimerService slaTimerService;
+
+    @Mock
+    private TicketOutbox ticketOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private TicketService ticketService;
 
@@ -71,9 +88,12 @@ class TicketServiceTest {
 
         Ticket saved = ticketService.createTicket(command, endUser);
 
-        assertThat(saved.getTicketNumber()).isNotNull();
-        verify(ticketNumberGenerator).nextTicketNumber();
+        assertThat(saved.getTicketNumber()).isEqualTo("ITSM-2025-0001");
         verify(slaService).initializeSla(any(Ticket.class), any(LocalDateTime.class));
+        // The number is drawn before the insert transaction holds a connection
+        InOrder order = inOrder(ticketNumberGenerator, transactionManager);
+        order.verify(ticketNumberGenerator).nextTicketNumber();
+        order.verify(transactionManager).getTransaction(any());
     }
 
     @Test
@@ -99,21 +119,36 @@ class TicketServiceTest {
 
         assertThat(ticket.getResolvedAt()).isNotNull();
         verify(ticketHistoryService).recordStatusChange(eq(ticket), eq(TicketStatus.NEW), eq(TicketStatus.RESOLVED), any(User.class), eq("done"));
+        verify(ticketOutbox).append(argThat(event ->
+                event.type() == TicketEventType.STATUS_CHANGED && event.status() == TicketStatus.RESOLVED));
     }
 
     @Test
-    void autoCloseResolvedTickets_marksClosedAndHistory() {
+    void changeStatus_onHoldPausesSla() {
         Ticket ticket = sampleTicket();
-        ticket.setStatus(TicketStatus.RESOLVED);
-        ticket.setResolvedAt(LocalDateTime.now().minusDays(10));
-        given(ticketRepository.findByStatusAndResolvedAtBefore(any(), any())).willReturn(List.of(ticket));
+        given(ticketRepository.findById(10L)).willReturn(Optional.of(ticket));
         given(ticketRepository.save(ticket)).willReturn(ticket);
+        given(userRepository.findById(2L)).willReturn(Optional.of(ticket.getReporter()));
+
+        ticketService.changeStatus(10L, new TicketStatusChangeCommand(TicketStatus.ON_HOLD, "waiting for vendor"), admin);
+
+        verify(slaService).pauseSla(eq(ticket), any(LocalDateTime.class));
+        verify(slaService, never()).resumeSla(any(Ticket.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void changeStatus_leavingOnHoldResumesSla() {
+        Ticket ticket = sampleTicket();
+        ticket.setStatus(TicketStatus.ON_HOLD);
+        given(ticketRepository.findById(10L)).willReturn(Optional.of(ticket));
+        given(ticketRepository.save(ticket)).willReturn(ticket);
+        given(userRepository.findById(2L)).willReturn(Optional.of(ticket.getReporter()));
 
-        int closed = ticketService.autoCloseResolvedTickets(LocalDateTime.now().minusDays(7), "Auto closed by system");
+        ticketService.changeStatus(10L, new TicketStatusChangeCommand(TicketStatus.IN_PROGRESS, "vendor replied"), admin);
 
-        assertThat(closed).isEqualTo(1);
-        assertThat(ticket.getStatus()).isEqualTo(TicketStatus.CLOSED);
-        verify(ticketHistoryService).recordStatusChange(eq(ticket), eq(TicketStatus.RESOLVED), eq(TicketStatus.CLOSED), any(User.class), eq("Auto closed by system"));
+        verify(slaService).resumeSla(eq(ticket), any(LocalDateTime.class));
+        verify(slaService, never()).pauseSla(any(Ticket.class), any(LocalDateTime.class));
+        verify(slaService).nextFlagChangeAt(eq(ticket), any(LocalDateTime.class));
     }
 
     private Ticket sampleTicket() {
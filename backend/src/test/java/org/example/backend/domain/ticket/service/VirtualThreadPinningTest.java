@@ -0,0 +1,122 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.example.backend.domain.ticket.entity.TicketNumberSequence;
+import org.example.backend.domain.ticket.repository.TicketNumberSequenceRepository;
+import org.example.backend.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Runs hot paths on virtual threads under a JFR stream and fails on {@code jdk.VirtualThreadPinned}
+ * events raised from application frames, i.e. a virtual thread blocking while it holds a monitor.
+ */
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadPinningTest {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "org.example.backend.";
+    private static final int TASKS = 64;
+
+    @Mock
+    private TicketNumberSequenceRepository sequenceRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void detectsBlockingInsideSynchronizedBlock() throws Exception {
+        // Monitors stopped pinning in JDK 24 (JEP 491)
+        assumeTrue(Runtime.version().feature() < 24);
+        Object monitor = new Object();
+
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            synchronized (monitor) {
+                sleep(5);
+            }
+        });
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    @Test
+    void ticketNumberRefillsDoNotPinCarriers() throws Exception {
+        // A block of one makes every call refill, and each reservation blocks while holding the lock
+        TicketNumberGenerator generator = new TicketNumberGenerator(sequenceRepository, ticketRepository, transactionManager, 1);
+        TicketNumberSequence sequence = new TicketNumberSequence(Year.now().getValue(), 1);
+        given(sequenceRepository.findForUpdate(anyInt())).willAnswer(invocation -> {
+            sleep(2);
+            return Optional.of(sequence);
+        });
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+
+        List<RecordedEvent> pinned = recordPinning(() -> numbers.add(generator.nextTicketNumber()));
+
+        assertThat(numbers).hasSize(TASKS);
+        assertThat(pinned).isEmpty();
+    }
+
+    private static List<RecordedEvent> recordPinning(Runnable task) throws Exception {
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent(PINNED, event -> {
+                if (fromApplicationCode(event)) {
+                    pinned.add(event);
+                }
+            });
+            stream.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < TASKS; i++) {
+                    executor.submit(task);
+                }
+            }
+            // Processes every event recorded up to this point before returning
+            stream.stop();
+        }
+        return pinned;
+    }
+
+    private static boolean fromApplicationCode(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.backend.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class WorkingCalendarTest {
+
+    private final WorkingCalendar office = office();
+
+    @Test
+    void addWorkingTime_skipsBreaksNightsAndHolidays() {
+        // Tuesday 2024-12-31 11:00: 1h before lunch, 4h after, then New Year's Day is skipped
+        LocalDateTime start = LocalDateTime.of(2024, 12, 31, 11, 0);
+
+        assertThat(office.addWorkingTime(start, Duration.ofHours(2))).isEqualTo(LocalDateTime.of(2024, 12, 31, 14, 0));
+        assertThat(office.addWorkingTime(start, Duration.ofHours(6))).isEqualTo(LocalDateTime.of(2025, 1, 2, 9, 0));
+    }
+
+    @Test
+    void addWorkingTime_startingOutsideHoursBeginsAtNextWindow() {
+        // Friday 2025-01-03 20:00 -> Saturday 09:00-11:00 -> Monday 08:00
+        LocalDateTime start = LocalDateTime.of(2025, 1, 3, 20, 0);
+
+        assertThat(office.addWorkingTime(start, Duration.ofMinutes(30))).isEqualTo(LocalDateTime.of(2025, 1, 4, 9, 30));
+        assertThat(office.addWorkingTime(start, Duration.ofHours(3))).isEqualTo(LocalDateTime.of(2025, 1, 6, 9, 0));
+    }
+
+    @Test
+    void addWorkingTime_returnsEarliestInstantWhenTargetEndsAWindow() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 2, 8, 0);
+
+        assertThat(office.addWorkingTime(start, Duration.ofHours(4))).isEqualTo(LocalDateTime.of(2025, 1, 2, 12, 0));
+    }
+
+    @Test
+    void workingTimeBetween_isInverseOfAdd() {
+        LocalDateTime start = LocalDateTime.of(2024, 12, 30, 7, 15);
+        for (long minutes = 0; minutes <= 60 * 60; minutes += 37) {
+            LocalDateTime end = office.addWorkingTime(start, Duration.ofMinutes(minutes));
+
+            assertThat(office.workingTimeBetween(start, end)).as("+%dm", minutes).isEqualTo(Duration.ofMinutes(minutes));
+        }
+        assertThat(office.workingTimeBetween(LocalDateTime.of(2025, 1, 4, 12, 0), LocalDateTime.of(2025, 1, 5, 23, 0)))
+                .isZero();
+    }
+
+    @Test
+    void indexExtendsBeyondThePrecomputedRange() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 2, 8, 0);
+        LocalDateTime farAway = LocalDateTime.of(2040, 3, 5, 10, 0); // Monday
+
+        // 150 working weeks of 42h reach past the initially indexed range
+        assertThat(office.addWorkingTime(start, Duration.ofHours(42 * 150))).isAfter(start.plusYears(2));
+        assertThat(office.addWorkingTime(farAway, Duration.ofHours(1))).isEqualTo(farAway.plusHours(1));
+    }
+
+    @Test
+    void addWorkingTime_isStableWhileAnotherThreadExtendsTheIndexBackwards() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 2, 8, 0);
+        LocalDateTime longAgo = LocalDateTime.of(2010, 1, 4, 8, 0);
+        Duration amount = Duration.ofHours(42 * 150);
+        LocalDateTime expected = office.addWorkingTime(start, amount);
+
+        for (int round = 0; round < 200; round++) {
+            WorkingCalendar calendar = office();
+            // Index the range around start, so both threads below have to extend it
+            calendar.addWorkingTime(start, Duration.ofMinutes(1));
+            CountDownLatch go = new CountDownLatch(1);
+            CompletableFuture<LocalDateTime> forward = CompletableFuture.supplyAsync(() -> {
+                await(go);
+                return calendar.addWorkingTime(start, amount);
+            });
+            CompletableFuture<Duration> backward = CompletableFuture.supplyAsync(() -> {
+                await(go);
+                return calendar.workingTimeBetween(longAgo, start);
+            });
+            go.countDown();
+
+            assertThat(forward.join()).as("round %d", round).isEqualTo(expected);
+            assertThat(backward.join()).isPositive();
+        }
+    }
+
+    @Test
+    void alwaysOpenCountsEveryMinute() {
+        WorkingCalendar calendar = WorkingCalendar.alwaysOpen();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 4, 23, 30);
+
+        assertThat(calendar.addWorkingTime(start, Duration.ofHours(4))).isEqualTo(start.plusHours(4));
+        assertThat(calendar.workingTimeBetween(start, start.plusDays(2))).isEqualTo(Duration.ofDays(2));
+    }
+
+    @Test
+    void of_rejectsMalformedHours() {
+        assertThatThrownBy(() -> WorkingCalendar.of("bad", List.of("MON-FRI 17:00-08:00"), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkingCalendar.of("bad", List.of("MON 08:00-12:00,11:00-13:00"), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkingCalendar.of("bad", List.of("XYZ 08:00-12:00"), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static WorkingCalendar office() {
+        return WorkingCalendar.of(
+                "office",
+                List.of("MON-FRI 08:00-12:00,13:00-17:00", "SAT 09:00-11:00"),
+                List.of(LocalDate.of(2025, 1, 1))
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
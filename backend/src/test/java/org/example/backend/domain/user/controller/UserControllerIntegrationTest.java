@@ -1,6 +1,9 @@
 package org.example.backend.domain.user.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
 import org.example.backend.domain.auth.service.AuthUserDetails;
 import org.example.backend.domain.user.dto.request.ChangePasswordRequest;
 import org.example.backend.domain.user.dto.request.CreateUserRequest;
@@ -95,6 +98,40 @@ class UserControllerIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void scrollUsers_walksAllUsersByCursor() throws Exception {
+        ensureUserExists("scroll1", "Scroll@123");
+        ensureUserExists("scroll2", "Scroll@123");
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/users/scroll")
+                    .param("size", "2")
+                    .with(SecurityMockMvcRequestPostProcessors.user(authUser("admin")));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(org.hamcrest.Matchers.nullValue()))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(node -> seen.add(node.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        assertThat(seen).doesNotHaveDuplicates().isSorted().hasSize((int) userRepository.count());
+    }
+
+    @Test
+    void scrollUsers_rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/users/scroll")
+                        .param("cursor", "not-a-cursor")
+                        .with(SecurityMockMvcRequestPostProcessors.user(authUser("admin"))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void changePassword_requiresCsrfToken() throws Exception {
         ensureUserExists("selfuser", "Self@123");
@@ -41,6 +41,9 @@ class UserAdminServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserKeywordIndex userKeywordIndex;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -105,6 +108,7 @@ class UserAdminServiceTest {
         assertThat(saved.isActive()).isTrue();
         assertThat(response.id()).isEqualTo(99L);
         assertThat(response.mustChangePassword()).isTrue();
+        verify(userKeywordIndex).index(saved);
     }
 
     @Test
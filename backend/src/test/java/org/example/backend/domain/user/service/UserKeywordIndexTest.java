@@ -0,0 +1,88 @@
+package org.example.backend.domain.user.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.department.entity.Department;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.enums.UserRole;
+import org.example.backend.domain.user.repository.UserKeywordSource;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UserKeywordIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserKeywordIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserKeywordIndex(userRepository, 2);
+        assertThat(index.candidates("alice")).isNull();
+        given(userRepository.findKeywordSources()).willReturn(List.of(
+                new UserKeywordSource(1L, "alice", "alice@example.com", "Alice Nguyen"),
+                new UserKeywordSource(2L, "bob", "bob@example.com", "Bob Tran"),
+                new UserKeywordSource(3L, "carol", "carol@example.org", "Carol Nguyen")
+        ));
+        index.warmUp();
+    }
+
+    @Test
+    void candidates_matchSubstringsOfAnyField() {
+        assertThat(index.candidates("Nguyen").ids()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.candidates("  ALI ").ids()).containsExactly(1L);
+        assertThat(index.candidates("e.org").ids()).containsExactly(3L);
+        assertThat(index.candidates("zzz").ids()).isEmpty();
+    }
+
+    @Test
+    void candidates_declineWhenTheIndexCannotNarrowTheSearch() {
+        assertThat(index.candidates(null)).isNull();
+        assertThat(index.candidates("al")).isNull();
+        assertThat(index.candidates("al%ce")).isNull();
+        // All three users match, over the limit of two
+        assertThat(index.candidates("example")).isNull();
+        assertThat(index.candidates("@example.com").ids()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void candidates_carryTheLastRebuildForUsersChangedElsewhere() {
+        LocalDateTime firstBuild = index.candidates("alice").changedSince();
+        given(userRepository.findKeywordSources()).willReturn(List.of(
+                new UserKeywordSource(1L, "alice", "alice@example.com", "Alice Nguyen"),
+                new UserKeywordSource(4L, "dave", "dave@example.com", "Dave Nguyen")
+        ));
+
+        index.rebuild();
+
+        UserKeywordIndex.Candidates candidates = index.candidates("nguyen");
+        assertThat(candidates.ids()).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(candidates.changedSince()).isAfterOrEqualTo(firstBuild).isBefore(LocalDateTime.now());
+    }
+
+    @Test
+    void indexAndRemove_replaceTheUsersTrigrams() {
+        User bob = new User("robert", "robert@example.com", "pwd", "Robert Tran", UserRole.AGENT, (Department) null);
+        ReflectionTestUtils.setField(bob, "id", 2L);
+
+        index.index(bob);
+
+        assertThat(index.candidates("bob@").ids()).isEmpty();
+        assertThat(index.candidates("robert").ids()).containsExactly(2L);
+        assertThat(index.candidates("tran").ids()).containsExactly(2L);
+
+        index.remove(2L);
+
+        assertThat(index.candidates("tran").ids()).isEmpty();
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.backend.loadtest;
+
+import java.util.Arrays;
+
+final class EndpointStats {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+
+    synchronized void record(long nanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(
+                count,
+                errors,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                count / elapsedSeconds
+        );
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record Summary(int requests, int errors, double p50Millis, double p99Millis, double throughputPerSecond) {
+    }
+}
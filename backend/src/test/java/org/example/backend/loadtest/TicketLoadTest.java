@@ -0,0 +1,282 @@
+package org.example.backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Drives a mixed ticket workload against the embedded server and an isolated in-memory H2 database.
+ * Run with {@code mvn test -Dtest=TicketLoadTest -Dloadtest=true}; tune with
+ * {@code -Dloadtest.users=32 -Dloadtest.warmupSeconds=10 -Dloadtest.durationSeconds=60}.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:ticket-load-test;DB_CLOSE_DELAY=-1"
+)
+@DirtiesContext
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class TicketLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketLoadTest.class);
+
+    private static final String[] CATEGORIES = {"HARDWARE", "SOFTWARE", "NETWORK", "ACCESS"};
+    private static final String[] PRIORITIES = {"CRITICAL", "HIGH", "MEDIUM", "LOW"};
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    @Test
+    void mixedTicketWorkload() throws Exception {
+        int users = Integer.getInteger("loadtest.users", 16);
+        long warmupMillis = Long.getLong("loadtest.warmupSeconds", 5L) * 1000;
+        long durationMillis = Long.getLong("loadtest.durationSeconds", 30L) * 1000;
+
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            // Half of the users report and follow up on tickets, the other half work the agent queue
+            virtualUsers.add(i % 2 == 0
+                    ? new VirtualUser("alice", "Alice@123", false)
+                    : new VirtualUser("agent", "Agent@123", true));
+        }
+        for (VirtualUser user : virtualUsers) {
+            user.login();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            run(executor, virtualUsers, warmupMillis);
+            stats.clear();
+            long started = System.nanoTime();
+            run(executor, virtualUsers, durationMillis);
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+            report(users, elapsedSeconds);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(stats).isNotEmpty();
+    }
+
+    private void run(ExecutorService executor, List<VirtualUser> virtualUsers, long durationMillis)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + durationMillis;
+        List<Future<?>> futures = new ArrayList<>();
+        for (VirtualUser user : virtualUsers) {
+            futures.add(executor.submit(() -> {
+                while (System.currentTimeMillis() < deadline) {
+                    user.step();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void report(int users, double elapsedSeconds) {
+        log.info("[LOAD-TEST] users={} duration={}s", users, "%.1f".formatted(elapsedSeconds));
+        log.info("[LOAD-TEST] {}", "%-22s %9s %7s %9s %9s %10s".formatted(
+                "endpoint", "requests", "errors", "p50(ms)", "p99(ms)", "req/s"));
+        long total = 0;
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(stats).entrySet()) {
+            EndpointStats.Summary summary = entry.getValue().summarize(elapsedSeconds);
+            total += summary.requests();
+            log.info("[LOAD-TEST] {}", "%-22s %9d %7d %9.2f %9.2f %10.1f".formatted(
+                    entry.getKey(),
+                    summary.requests(),
+                    summary.errors(),
+                    summary.p50Millis(),
+                    summary.p99Millis(),
+                    summary.throughputPerSecond()
+            ));
+        }
+        log.info("[LOAD-TEST] total throughput={} req/s", "%.1f".formatted(total / elapsedSeconds));
+    }
+
+    private final class VirtualUser {
+
+        private final String username;
+        private final String password;
+        private final boolean agent;
+        private final CookieManager cookies = new CookieManager();
+        private final HttpClient client;
+        private final List<Long> knownTickets = new ArrayList<>();
+        private Long userId;
+
+        private VirtualUser(String username, String password, boolean agent) {
+            this.username = username;
+            this.password = password;
+            this.agent = agent;
+            this.client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .cookieHandler(cookies)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+        }
+
+        private void login() throws IOException, InterruptedException {
+            // Sets the CSRF cookie that every later request echoes back
+            send("csrf", get("/api/csrf"));
+            JsonNode me = json(send("login", post("/api/auth/login", Map.of(
+                    "username", username,
+                    "password", password
+            ))));
+            userId = me.get("id").asLong();
+        }
+
+        private void step() throws IOException, InterruptedException {
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            if (roll < 35 || knownTickets.isEmpty()) {
+                listTickets();
+            } else if (roll < 65) {
+                send("detail", get("/api/tickets/" + pickTicket()));
+            } else if (roll < 80) {
+                send("comment", post("/api/tickets/" + pickTicket() + "/comments", Map.of(
+                        "content", "Load test follow-up from " + username,
+                        "isInternal", agent
+                )));
+            } else if (agent) {
+                progressTicket(pickTicket());
+            } else {
+                createTicket();
+            }
+        }
+
+        private void listTickets() throws IOException, InterruptedException {
+            String path = agent ? "/api/tickets?size=20&sort=createdAt,desc" : "/api/tickets?size=20";
+            JsonNode page = json(send("list", get(path)));
+            if (page == null) {
+                return;
+            }
+            knownTickets.clear();
+            page.get("content").forEach(ticket -> knownTickets.add(ticket.get("id").asLong()));
+        }
+
+        private void createTicket() throws IOException, InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            JsonNode created = json(send("create", post("/api/tickets", Map.of(
+                    "subject", "Load test ticket " + random.nextInt(1_000_000),
+                    "description", "Generated by the load test harness",
+                    "priority", PRIORITIES[random.nextInt(PRIORITIES.length)],
+                    "category", CATEGORIES[random.nextInt(CATEGORIES.length)]
+            ))));
+            if (created != null) {
+                knownTickets.add(created.get("id").asLong());
+            }
+        }
+
+        private void progressTicket(Long ticketId) throws IOException, InterruptedException {
+            JsonNode ticket = json(send("detail", get("/api/tickets/" + ticketId)));
+            if (ticket == null) {
+                return;
+            }
+            switch (ticket.get("status").asText()) {
+                case "NEW" -> {
+                    if (ticket.get("assigneeId").isNull()) {
+                        send("assign", patch("/api/tickets/" + ticketId, Map.of("assigneeId", userId)));
+                    }
+                    changeStatus(ticketId, "IN_PROGRESS");
+                }
+                case "IN_PROGRESS" -> changeStatus(ticketId, "ON_HOLD");
+                case "ON_HOLD", "REOPENED" -> changeStatus(ticketId, "IN_PROGRESS");
+                default -> {
+                    // resolved and closed tickets are left alone
+                }
+            }
+        }
+
+        private void changeStatus(Long ticketId, String toStatus) throws IOException, InterruptedException {
+            send("status-change", post("/api/tickets/" + ticketId + "/status", Map.of(
+                    "toStatus", toStatus,
+                    "note", "Load test transition"
+            )));
+        }
+
+        private Long pickTicket() {
+            return knownTickets.get(ThreadLocalRandom.current().nextInt(knownTickets.size()));
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest request)
+                throws IOException, InterruptedException {
+            long started = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() < 400;
+            stats.computeIfAbsent(endpoint, key -> new EndpointStats()).record(System.nanoTime() - started, success);
+            return success ? response : null;
+        }
+
+        private HttpRequest get(String path) {
+            return request(path).GET().build();
+        }
+
+        private HttpRequest post(String path, Map<String, ?> body) throws IOException {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        }
+
+        private HttpRequest patch(String path, Map<String, ?> body) throws IOException {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .timeout(Duration.ofSeconds(30));
+            String csrfToken = csrfToken();
+            if (csrfToken != null) {
+                builder.header("X-XSRF-TOKEN", csrfToken);
+            }
+            return builder;
+        }
+
+        private String csrfToken() {
+            // Read per request: the server rotates the token (login does) and the cookie always holds the current one
+            return cookies.getCookieStore().getCookies().stream()
+                    .filter(cookie -> CSRF_COOKIE.equals(cookie.getName()))
+                    .map(HttpCookie::getValue)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        private JsonNode json(HttpResponse<String> response) throws IOException {
+            return response != null ? objectMapper.readTree(response.body()) : null;
+        }
+    }
+}